@@ -0,0 +1,155 @@
+import java.util.Arrays;
+
+/*
+====================================================================================
+🛒 CART – MANY LINE ITEMS, ALWAYS-READY TOTAL
+====================================================================================
+
+🎯 GOAL:
+One shopping cart that can hold thousands of different items, where asking for
+the total is instant no matter how many items are in it.
+
+HOW IT WORKS:
+- 💰 Prices are `long` CENTS, not `double` dollars: 0.1 + 0.2 is exactly 30 cents,
+  never 0.30000000000000004.
+- 📐 Structure of arrays: instead of one object per line item, the cart keeps one
+  array per COLUMN (skus[], names[], unitCents[], quantities[]). Line i is
+  "index i in every column". Numbers sit next to each other in memory, so
+  looping over them is fast and nothing is allocated per item.
+- 🗂️ A LongIntMap remembers which line each SKU is on, so adding to or removing
+  from a cart with thousands of lines never searches through them.
+- ⚡ Incremental total: add() and remove() adjust `totalCents` by exactly the
+  amount they change, so total() never has to add up every line again.
+- 🗑️ Removing a line moves the LAST line into its place (swap-remove), so
+  removing is O(1) too — the order of lines is not kept.
+====================================================================================
+*/
+public class Cart {
+
+    private long[] skus = new long[8];
+    private String[] names = new String[8];
+    private long[] unitCents = new long[8];
+    private int[] quantities = new int[8];
+    private int lines;
+    private final LongIntMap lineOf = new LongIntMap(8);   // sku → line, so add/remove never scan
+
+    private long totalCents;
+    private long itemCount;
+
+    // ➕ add() – put `quantity` units in the cart (adds to the line if the SKU is already there)
+    void add(long sku, String name, long priceCents, int quantity) {
+        if (priceCents < 0 || quantity <= 0) {
+            throw new IllegalArgumentException("Price must be ≥ 0 and quantity > 0");
+        }
+        long newTotal = Math.addExact(totalCents, Math.multiplyExact(priceCents, quantity));
+        int line = find(sku);
+        if (line < 0) {
+            line = appendLine(sku, name, priceCents);
+            quantities[line] = quantity;
+        } else if (unitCents[line] != priceCents) {
+            throw new IllegalArgumentException("SKU " + sku + " is already in the cart at a different price");
+        } else {
+            quantities[line] = Math.addExact(quantities[line], quantity);
+        }
+        totalCents = newTotal;
+        itemCount += quantity;
+    }
+
+    // ➖ remove() – take up to `quantity` units of a SKU out; returns how many were removed
+    int remove(long sku, int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("Quantity must be > 0");
+        }
+        int line = find(sku);
+        if (line < 0) {
+            return 0;
+        }
+        int removed = Math.min(quantity, quantities[line]);
+        totalCents -= unitCents[line] * removed;
+        itemCount -= removed;
+        quantities[line] -= removed;
+        if (quantities[line] == 0) {
+            removeLine(line);
+        }
+        return removed;
+    }
+
+    // 💵 total() – the cart total in cents, already up to date
+    long totalCents() {
+        return totalCents;
+    }
+
+    long itemCount() {
+        return itemCount;
+    }
+
+    int lineCount() {
+        return lines;
+    }
+
+    // 🔎 Column getters for line i (0 ≤ i < lineCount())
+    long sku(int i) {
+        return skus[i];
+    }
+
+    String name(int i) {
+        return names[i];
+    }
+
+    long unitCents(int i) {
+        return unitCents[i];
+    }
+
+    int quantity(int i) {
+        return quantities[i];
+    }
+
+    // 🧮 recomputeTotal() – the slow way, only used to double-check the fast one
+    long recomputeTotal() {
+        long sum = 0;
+        for (int i = 0; i < lines; i++) {
+            sum += unitCents[i] * quantities[i];
+        }
+        return sum;
+    }
+
+    // 🔍 find() – the line holding `sku`, or -1
+    private int find(long sku) {
+        return lineOf.get(sku);
+    }
+
+    private int appendLine(long sku, String name, long priceCents) {
+        if (lines == skus.length) {
+            int capacity = lines * 2;
+            skus = Arrays.copyOf(skus, capacity);
+            names = Arrays.copyOf(names, capacity);
+            unitCents = Arrays.copyOf(unitCents, capacity);
+            quantities = Arrays.copyOf(quantities, capacity);
+        }
+        skus[lines] = sku;
+        names[lines] = name;
+        unitCents[lines] = priceCents;
+        lineOf.put(sku, lines);
+        return lines++;
+    }
+
+    private void removeLine(int line) {
+        int last = --lines;
+        lineOf.remove(skus[line]);
+        if (line != last) {
+            lineOf.put(skus[last], line);
+        }
+        skus[line] = skus[last];
+        names[line] = names[last];
+        unitCents[line] = unitCents[last];
+        quantities[line] = quantities[last];
+        names[last] = null;
+    }
+
+    // 💲 format() – 1999 cents → "$19.99"
+    static String format(char currency, long cents) {
+        String sign = cents < 0 ? "-" : "";
+        long abs = Math.abs(cents);
+        return String.format("%s%c%,d.%02d", sign, currency, abs / 100, abs % 100);
+    }
+}
@@ -0,0 +1,112 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/*
+====================================================================================
+⏱️ CART BENCHMARK – OBJECTS vs COLUMNS
+====================================================================================
+
+🎯 GOAL:
+Show why CartBatch keeps line items as columns. The same carts are totalled two ways:
+
+  🐢 OBJECTS: every cart is a List of LineItem objects (the "obvious" design),
+             total = loop over the list, multiply, add
+  🚀 COLUMNS: CartBatch — flat long[]/int[] columns, one tight loop per cart,
+             chunks of carts in parallel
+
+It also builds every cart with Cart.add()/remove() and checks that the incremental
+totals match a full recomputation.
+
+RUN:
+  java CartBenchmark [carts] [linesPerCart]
+====================================================================================
+*/
+public class CartBenchmark {
+
+    static final int WARMUP_ROUNDS = 3;
+    static final int MEASURED_ROUNDS = 5;
+
+    record LineItem(long unitCents, int quantity) {
+    }
+
+    public static void main(String[] args) {
+
+        int carts = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int linesPerCart = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+
+        SplittableRandom random = new SplittableRandom(42);
+        List<List<LineItem>> objects = new ArrayList<>(carts);
+        CartBatch batch = new CartBatch(carts, carts * linesPerCart);
+        long[] expected = new long[carts];
+
+        // 🛒 Build every cart with the incremental Cart, then copy it into both layouts
+        long mismatches = 0;
+        for (int c = 0; c < carts; c++) {
+            Cart cart = new Cart();
+            for (int i = 0; i < linesPerCart; i++) {
+                long sku = random.nextLong(1_000_000);
+                cart.add(sku, "item", 99 + (sku % 100) * 100, random.nextInt(1, 6));
+            }
+            cart.remove(cart.sku(0), 1);
+            if (cart.totalCents() != cart.recomputeTotal()) {
+                mismatches++;
+            }
+            expected[c] = cart.totalCents();
+
+            List<LineItem> items = new ArrayList<>(cart.lineCount());
+            for (int i = 0; i < cart.lineCount(); i++) {
+                items.add(new LineItem(cart.unitCents(i), cart.quantity(i)));
+            }
+            objects.add(items);
+            batch.addCart(cart);
+        }
+
+        System.out.println("===============================");
+        System.out.println("   ⏱️ CART TOTALS BENCHMARK");
+        System.out.println("===============================");
+        System.out.printf("🛒 %,d carts, %,d line items%n", carts, batch.lines());
+        System.out.println(mismatches == 0 ? "✅ Incremental totals match a full recompute" : "❌ " + mismatches + " carts have a wrong running total!");
+
+        long[] out = new long[carts];
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            totalObjects(objects, out);
+            batch.totals(out);
+        }
+
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            totalObjects(objects, out);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        System.out.printf("🐢 objects | %,14.0f carts/sec%n", carts / (best / 1_000_000_000.0));
+
+        best = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            batch.totals(out);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        System.out.printf("🚀 columns | %,14.0f carts/sec%n", carts / (best / 1_000_000_000.0));
+
+        for (int c = 0; c < carts; c++) {
+            if (out[c] != expected[c]) {
+                System.out.println("❌ Cart " + c + " total differs!");
+                return;
+            }
+        }
+        System.out.println("✅ Batch totals match the incremental totals");
+    }
+
+    // 🐢 totalObjects() – the list-of-objects way
+    static void totalObjects(List<List<LineItem>> carts, long[] out) {
+        for (int c = 0; c < carts.size(); c++) {
+            long sum = 0;
+            for (LineItem item : carts.get(c)) {
+                sum += item.unitCents() * item.quantity();
+            }
+            out[c] = sum;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+====================================================================================
+🗂️ LONG → INT MAP – A HASH MAP WITHOUT BOXING
+====================================================================================
+
+🎯 GOAL:
+Find "which line of the cart holds SKU 123456?" in O(1) without HashMap<Long, Integer>,
+which would create a Long and an Integer object (plus an entry object) per item.
+
+HOW IT WORKS (open addressing, linear probing):
+- Two plain arrays: keys[] and values[]. A key's home slot is hash(key) & (capacity - 1).
+- If that slot is taken, try the next one, and the next... until the key or an
+  empty slot is found.
+- The table doubles when it is more than half full, so searches stay short.
+- Removing uses "backward shift": the entries after the hole slide back into it,
+  so no "deleted" markers are needed and lookups never slow down over time.
+====================================================================================
+*/
+public class LongIntMap {
+
+    static final int MISSING = -1;
+
+    private long[] keys;
+    private int[] values;
+    private boolean[] used;
+    private int size;
+
+    LongIntMap(int expected) {
+        int capacity = Integer.highestOneBit(Math.max(4, expected) * 2 - 1) << 1;
+        keys = new long[capacity];
+        values = new int[capacity];
+        used = new boolean[capacity];
+    }
+
+    // 🔍 get() – the value for `key`, or MISSING
+    int get(long key) {
+        int mask = keys.length - 1;
+        for (int slot = hash(key) & mask; used[slot]; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+        }
+        return MISSING;
+    }
+
+    // ✍️ put() – add or replace
+    void put(long key, int value) {
+        if ((size + 1) * 2 > keys.length) {
+            grow();
+        }
+        int mask = keys.length - 1;
+        int slot = hash(key) & mask;
+        while (used[slot]) {
+            if (keys[slot] == key) {
+                values[slot] = value;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        used[slot] = true;
+        keys[slot] = key;
+        values[slot] = value;
+        size++;
+    }
+
+    // 🗑️ remove() – delete `key` if present (backward-shift deletion)
+    void remove(long key) {
+        int mask = keys.length - 1;
+        int slot = hash(key) & mask;
+        while (used[slot] && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        if (!used[slot]) {
+            return;
+        }
+        size--;
+        int hole = slot;
+        for (int next = (hole + 1) & mask; used[next]; next = (next + 1) & mask) {
+            int home = hash(keys[next]) & mask;
+            // Move the entry back only if the hole lies between its home slot and where it sits now
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                keys[hole] = keys[next];
+                values[hole] = values[next];
+                hole = next;
+            }
+        }
+        used[hole] = false;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        boolean[] oldUsed = used;
+        keys = new long[oldKeys.length * 2];
+        values = new int[oldKeys.length * 2];
+        used = new boolean[oldKeys.length * 2];
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldUsed[i]) {
+                put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    // 🌀 hash() – spread the SKU's bits so neighbouring SKUs don't pile up in neighbouring slots
+    static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,90 @@
+/*
+====================================================================================
+🗂️ LONG → LONG MAP – KEY AND VALUE SIDE BY SIDE
+====================================================================================
+
+🎯 GOAL:
+The price catalog's map: SKU → price in cents, for millions of SKUs, where every
+lookup should cost ONE trip to main memory.
+
+HOW IT WORKS (open addressing, linear probing, like LongIntMap):
+- ONE array holds key, value, key, value, ... so a key and its value always sit
+  in the same 64-byte cache line. (LongIntMap keeps keys[], values[] and used[]
+  apart — fine for a small cart, but three memory misses per lookup when the
+  table is bigger than the CPU cache.)
+- An empty slot is marked with the key EMPTY (Long.MIN_VALUE), so no extra
+  "used" array is needed. That one key can't be stored.
+- The table doubles when it is more than half full. There is no remove():
+  the catalog is built once and then only read.
+====================================================================================
+*/
+public class LongLongMap {
+
+    static final long EMPTY = Long.MIN_VALUE;
+
+    private long[] table;   // table[2 * slot] = key, table[2 * slot + 1] = value
+    private int size;
+
+    LongLongMap(int expected) {
+        int capacity = Integer.highestOneBit(Math.max(4, expected) * 2 - 1) << 1;
+        table = newTable(capacity);
+    }
+
+    // 🔍 get() – the value for `key`, or `missing`
+    long get(long key, long missing) {
+        long[] table = this.table;
+        int mask = (table.length >> 1) - 1;
+        for (int slot = LongIntMap.hash(key) & mask; ; slot = (slot + 1) & mask) {
+            long k = table[2 * slot];
+            if (k == key) {
+                return table[2 * slot + 1];
+            }
+            if (k == EMPTY) {
+                return missing;
+            }
+        }
+    }
+
+    // ✍️ put() – add or replace
+    void put(long key, long value) {
+        if (key == EMPTY) {
+            throw new IllegalArgumentException("Key " + EMPTY + " is reserved");
+        }
+        if ((size + 1) * 2 > table.length >> 1) {
+            grow();
+        }
+        int mask = (table.length >> 1) - 1;
+        int slot = LongIntMap.hash(key) & mask;
+        while (table[2 * slot] != EMPTY && table[2 * slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        if (table[2 * slot] == EMPTY) {
+            size++;
+        }
+        table[2 * slot] = key;
+        table[2 * slot + 1] = value;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void grow() {
+        long[] old = table;
+        table = newTable(old.length);   // old.length = 2 × old capacity
+        size = 0;
+        for (int i = 0; i < old.length; i += 2) {
+            if (old[i] != EMPTY) {
+                put(old[i], old[i + 1]);
+            }
+        }
+    }
+
+    private static long[] newTable(int capacity) {
+        long[] table = new long[capacity * 2];
+        for (int i = 0; i < table.length; i += 2) {
+            table[i] = EMPTY;
+        }
+        return table;
+    }
+}
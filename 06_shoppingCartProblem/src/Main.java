@@ -1,7 +1,26 @@
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Scanner;
 
 public class Main {
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
+
+        // 🧪 java Main --make-catalog <file> <count>  → writes a sample price catalog
+        if (args.length == 3 && args[0].equals("--make-catalog")) {
+            PriceCatalog.writeSample(Path.of(args[1]), Integer.parseInt(args[2]));
+            return;
+        }
+
+        // 📒 java Main --catalog <file>  → prices come from the catalog (see PriceCatalog.java)
+        //    Lookups go straight to the in-memory catalog: it answers in about one memory
+        //    access, which is faster than a PriceCache in front of it (run PriceCacheBenchmark).
+        PriceCatalog prices = null;
+        if (args.length == 2 && args[0].equals("--catalog")) {
+            prices = PriceCatalog.load(Path.of(args[1]));
+            System.out.printf("📒 Catalog: %,d SKUs (%,d malformed lines skipped)%n", prices.size(), prices.malformed());
+        }
 
         /*
         ====================================================================================
@@ -31,34 +50,67 @@ public class Main {
          * 🔸 Variable Declarations
          * ------------------------
          * We'll use meaningful names for clarity and follow Java naming conventions.
+         * Money is kept in CENTS (a long) so totals are always exact — see Cart.java.
          */
         String item;           // To store the name of the product
-        double price;          // To store price of a single unit
+        long priceCents;       // To store price of a single unit, in cents
         int quantity;          // To store number of items user wants
         char currency = '$';   // To store the currency symbol
-        double total;          // Final total cost (price * quantity)
+        Cart cart = new Cart();  // All the items bought so far, with a running total
+        String more;           // "yes" to add another item
+        Map<String, Long> skuOf = new HashMap<>(); // item name (ignoring case) → its own made-up SKU
 
         /*
          * 🧾 GETTING USER INPUT
          * ---------------------
-         * Ask the user for the required information one by one.
+         * Ask the user for the required information one by one, for as many items
+         * as they like. Each different item name becomes its own line in the cart.
          */
-
-        System.out.print("What item would you like to buy?: ");
-        item = scanner.nextLine(); // Reading the entire line (including spaces)
-
-        System.out.print("What is the price for each?: ");
-        price = scanner.nextDouble(); // Reads a decimal number (e.g., 12.99)
-
-        System.out.print("How many would you like?: ");
-        quantity = scanner.nextInt(); // Reads an integer value
-
-        /*
-         * 🧮 CALCULATION
-         * --------------
-         * Multiply the price by quantity to get the total amount.
-         */
-        total = price * quantity;
+        do {
+            long sku;
+            if (prices == null) {
+                System.out.print("What item would you like to buy?: ");
+                item = scanner.nextLine(); // Reading the entire line (including spaces)
+                // 🏷️ Every different name (ignoring case) gets the next free number as its SKU,
+                //    so two names can never end up on the same cart line
+                sku = skuOf.computeIfAbsent(item.trim().toLowerCase(), name -> (long) skuOf.size() + 1);
+
+                System.out.print("What is the price for each?: ");
+                priceCents = Math.round(scanner.nextDouble() * 100); // 12.99 → 1299 cents
+            } else {
+                System.out.print("What item would you like to buy? (SKU): ");
+                sku = scanner.nextLong();
+                scanner.nextLine();
+                priceCents = prices.price(sku);
+                if (priceCents == PriceCatalog.NOT_FOUND) {
+                    System.out.println("⚠️ Unknown SKU " + sku);
+                    System.out.print("Add another item? (yes/no): ");
+                    more = scanner.nextLine().trim().toLowerCase();
+                    continue;
+                }
+                item = prices.name(sku);
+                System.out.println("Price for each " + item + ": " + Cart.format(currency, priceCents));
+            }
+
+            System.out.print("How many would you like?: ");
+            quantity = scanner.nextInt(); // Reads an integer value
+            scanner.nextLine(); // skip the rest of the line before the next nextLine()
+
+            /*
+             * 🧮 CALCULATION
+             * --------------
+             * The cart adds price * quantity to its running total right away,
+             * so there is nothing left to add up at the end.
+             */
+            try {
+                cart.add(sku, item, priceCents, quantity);
+            } catch (IllegalArgumentException e) {
+                System.out.println("⚠️ " + e.getMessage());
+            }
+
+            System.out.print("Add another item? (yes/no): ");
+            more = scanner.nextLine().trim().toLowerCase();
+        } while (more.equals("yes"));
 
         /*
          * 📤 OUTPUT
@@ -66,12 +118,14 @@ public class Main {
          * Use `\n` to add a line break before the result to keep it clean.
          */
         System.out.println("\nOrder Summary:");
-        System.out.println("Item: " + item);
-        System.out.println("Quantity: " + quantity);
-        System.out.println("Price per item: " + currency + price);
+        for (int i = 0; i < cart.lineCount(); i++) {
+            System.out.println("Item: " + cart.name(i));
+            System.out.println("Quantity: " + cart.quantity(i));
+            System.out.println("Price per item: " + Cart.format(currency, cart.unitCents(i)));
+        }
 
         // Formatting the final total output
-        System.out.println("Total cost: " + currency + total);
+        System.out.println("Total cost: " + Cart.format(currency, cart.totalCents()));
 
         /*
          * 🛑 GOOD PRACTICE: Always close the Scanner when you're done using it.
@@ -0,0 +1,152 @@
+import java.util.function.LongUnaryOperator;
+
+/*
+====================================================================================
+🔥 PRICE CACHE – THE HOT SKUs, KEPT CLOSE
+====================================================================================
+
+🎯 GOAL:
+Keep the prices of the SKUs shoppers are buying RIGHT NOW in a small, bounded table
+in front of a price SOURCE, and count how often that table already had the answer.
+
+The source is any sku → price-in-cents function (a LongUnaryOperator) that returns
+PriceCatalog.NOT_FOUND for an unknown SKU: catalog::price for the in-memory
+catalog, or a lookup that goes to disk or over the network.
+
+⚖️ WHEN IT HELPS:
+Every hit still costs a hash lookup plus moving the SKU to the front of the LRU
+list. The in-memory PriceCatalog already answers in about one memory access, so
+asking it directly is usually FASTER than going through this cache. The cache
+pays off when the source behind it is slower than that — a remote or on-disk
+price service — and its hit/miss counters tell you how big it needs to be. Run
+PriceCacheBenchmark to see both cases on your machine.
+
+HOW IT WORKS (LRU = Least Recently Used):
+- Up to `capacity` SKUs are kept, each in a SLOT: skus[], priceCents[] columns.
+- The slots form a doubly linked list by slot number (prev[], next[]) from the
+  most recently used (head) to the least recently used (tail).
+- A LongIntMap finds a SKU's slot in O(1).
+- HIT  → move the slot to the head, return the price.
+- MISS → ask the source; if the cache is full, the TAIL slot (the SKU nobody
+  asked for in the longest time) is EVICTED and reused.
+- Everything is plain arrays made once: a lookup never allocates.
+
+📊 Metrics: hits(), misses(), evictions(), hitRate().
+
+NOTE: a cache is meant for ONE thread (e.g. one checkout lane). Give each thread
+its own PriceCache over the shared source.
+====================================================================================
+*/
+public class PriceCache {
+
+    private static final int NONE = -1;
+
+    private final LongUnaryOperator source;
+    private final int capacity;
+    private final long[] skus;
+    private final long[] priceCents;
+    private final int[] prev;
+    private final int[] next;
+    private final LongIntMap slotOf;
+    private int used;
+    private int head = NONE;
+    private int tail = NONE;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    PriceCache(LongUnaryOperator source, int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be at least 1");
+        }
+        this.source = source;
+        this.capacity = capacity;
+        skus = new long[capacity];
+        priceCents = new long[capacity];
+        prev = new int[capacity];
+        next = new int[capacity];
+        slotOf = new LongIntMap(capacity);
+    }
+
+    // 🔍 price() – same answer as the source; a hit never asks the source at all
+    long price(long sku) {
+        int slot = slotOf.get(sku);
+        if (slot != LongIntMap.MISSING) {
+            hits++;
+            moveToHead(slot);
+            return priceCents[slot];
+        }
+
+        misses++;
+        long price = source.applyAsLong(sku);
+        if (price == PriceCatalog.NOT_FOUND) {
+            return price;   // unknown SKUs are not cached
+        }
+
+        if (used < capacity) {
+            slot = used++;
+        } else {
+            slot = tail;
+            unlink(slot);
+            slotOf.remove(skus[slot]);
+            evictions++;
+        }
+        skus[slot] = sku;
+        priceCents[slot] = price;
+        slotOf.put(sku, slot);
+        linkAtHead(slot);
+        return price;
+    }
+
+    long hits() {
+        return hits;
+    }
+
+    long misses() {
+        return misses;
+    }
+
+    long evictions() {
+        return evictions;
+    }
+
+    double hitRate() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    private void moveToHead(int slot) {
+        if (slot != head) {
+            unlink(slot);
+            linkAtHead(slot);
+        }
+    }
+
+    private void unlink(int slot) {
+        int before = prev[slot];
+        int after = next[slot];
+        if (before != NONE) {
+            next[before] = after;
+        } else {
+            head = after;
+        }
+        if (after != NONE) {
+            prev[after] = before;
+        } else {
+            tail = before;
+        }
+    }
+
+    private void linkAtHead(int slot) {
+        prev[slot] = NONE;
+        next[slot] = head;
+        if (head != NONE) {
+            prev[head] = slot;
+        }
+        head = slot;
+        if (tail == NONE) {
+            tail = slot;
+        }
+    }
+}
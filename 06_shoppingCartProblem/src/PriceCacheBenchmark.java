@@ -0,0 +1,150 @@
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.function.LongUnaryOperator;
+
+/*
+====================================================================================
+⏱️ PRICE CACHE BENCHMARK – CATALOG vs HOT-SKU CACHE
+====================================================================================
+
+🎯 GOAL:
+Measure how long a price lookup takes:
+
+  📒 CATALOG: PriceCatalog.price() straight into the big map
+  🔥 CACHE:   PriceCache.price() — small LRU table in front of the same catalog
+
+and then the case the cache is made for, a SLOW source:
+
+  🐌 REMOTE:         every lookup pays `remoteNanos` of waiting (a simulated
+                     price service over the network), then asks the catalog
+  🔥 CACHE + REMOTE: the same cache in front of that remote source — only
+                     misses pay the wait
+
+Lookups follow a "few items are very popular" pattern (roughly Zipf: SKU number
+N^u for a uniform u), like real shopping traffic. The hit rate tells you how big
+a cache would have to be; the ns/lookup tell you whether it is worth having one
+in front of an in-memory catalog (usually not) or a remote one (usually yes).
+
+RUN:
+  java PriceCacheBenchmark [skus] [cacheSize] [lookups] [remoteNanos]
+====================================================================================
+*/
+public class PriceCacheBenchmark {
+
+    static final int WARMUP_ROUNDS = 3;
+    static final int MEASURED_ROUNDS = 5;
+    static final int REMOTE_LOOKUPS = 200_000;   // the slow runs only use the first ones
+
+    public static void main(String[] args) throws IOException {
+
+        int skus = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        int cacheSize = args.length > 1 ? Integer.parseInt(args[1]) : 4_096;
+        int lookups = args.length > 2 ? Integer.parseInt(args[2]) : 10_000_000;
+        long remoteNanos = args.length > 3 ? Long.parseLong(args[3]) : 2_000;
+
+        File file = File.createTempFile("catalog", ".csv");
+        file.deleteOnExit();
+        PriceCatalog.writeSample(file.toPath(), skus);
+
+        long start = System.nanoTime();
+        PriceCatalog catalog = PriceCatalog.load(file.toPath());
+        double loadSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        // 🎯 The SKUs to look up, decided up front so both runs see the same traffic
+        SplittableRandom random = new SplittableRandom(42);
+        long[] wanted = new long[lookups];
+        for (int i = 0; i < lookups; i++) {
+            long rank = (long) Math.pow(skus, random.nextDouble()) - 1;
+            // scatter the popular ranks over the catalog so hot SKUs aren't neighbours
+            wanted[i] = 100_000 + Math.floorMod(LongIntMap.hash(rank), skus);
+        }
+
+        System.out.println("===============================");
+        System.out.println("   ⏱️ PRICE LOOKUP BENCHMARK");
+        System.out.println("===============================");
+        System.out.printf("📒 %,d SKUs loaded in %.2fs (%,d malformed lines)%n", catalog.size(), loadSeconds, catalog.malformed());
+        System.out.printf("🔍 %,d lookups, cache of %,d SKUs%n", lookups, cacheSize);
+
+        long checksum = 0;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            checksum += direct(catalog, wanted);
+            checksum += cached(new PriceCache(catalog::price, cacheSize), wanted);
+        }
+
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            start = System.nanoTime();
+            checksum += direct(catalog, wanted);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        System.out.printf("📒 catalog | %6.1f ns/lookup%n", (double) best / lookups);
+
+        best = Long.MAX_VALUE;
+        PriceCache cache = null;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            cache = new PriceCache(catalog::price, cacheSize);
+            start = System.nanoTime();
+            checksum += cached(cache, wanted);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        System.out.printf("🔥 cache   | %6.1f ns/lookup%n", (double) best / lookups);
+        System.out.printf("📊 hits %,d, misses %,d, evictions %,d → hit rate %.1f%%%n",
+                cache.hits(), cache.misses(), cache.evictions(), cache.hitRate() * 100);
+
+        // 🐌 A slow source: the cache is only asked for the first REMOTE_LOOKUPS lookups
+        long[] few = Arrays.copyOf(wanted, Math.min(lookups, REMOTE_LOOKUPS));
+        LongUnaryOperator remote = remote(catalog, remoteNanos);
+        System.out.printf("🐌 %,d lookups against a remote source (%,d ns each)%n", few.length, remoteNanos);
+        start = System.nanoTime();
+        long viaRemote = cached(remote, few);
+        System.out.printf("🐌 remote         | %8.1f ns/lookup%n", (double) (System.nanoTime() - start) / few.length);
+        cache = new PriceCache(remote, cacheSize);
+        start = System.nanoTime();
+        long viaCache = cached(cache, few);
+        System.out.printf("🔥 cache + remote | %8.1f ns/lookup (hit rate %.1f%%)%n",
+                (double) (System.nanoTime() - start) / few.length, cache.hitRate() * 100);
+
+        System.out.println(direct(catalog, wanted) == cached(new PriceCache(catalog::price, cacheSize), wanted)
+                && viaRemote == viaCache && viaRemote == direct(catalog, few)
+                ? "✅ Cache and catalog agree"
+                : "❌ Cache and catalog disagree!");
+        System.out.println("(checksum " + checksum + ")");
+    }
+
+    static long direct(PriceCatalog catalog, long[] wanted) {
+        long sum = 0;
+        for (long sku : wanted) {
+            sum += catalog.price(sku);
+        }
+        return sum;
+    }
+
+    static long cached(LongUnaryOperator source, long[] wanted) {
+        long sum = 0;
+        for (long sku : wanted) {
+            sum += source.applyAsLong(sku);
+        }
+        return sum;
+    }
+
+    // 🐌 remote() – the catalog behind a busy wait, standing in for a network round trip
+    static LongUnaryOperator remote(PriceCatalog catalog, long delayNanos) {
+        return sku -> {
+            long until = System.nanoTime() + delayNanos;
+            while (System.nanoTime() < until) {
+                Thread.onSpinWait();
+            }
+            return catalog.price(sku);
+        };
+    }
+
+    static long cached(PriceCache cache, long[] wanted) {
+        long sum = 0;
+        for (long sku : wanted) {
+            sum += cache.price(sku);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,155 @@
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/*
+====================================================================================
+📒 PRICE CATALOG – EVERY SKU'S PRICE, LOADED FROM A FILE
+====================================================================================
+
+🎯 GOAL:
+Stop asking the shopper to type prices. Prices come from a catalog file:
+
+    sku,price,name
+    100001,19.99,Blue Mug
+    100002,4.50,Tea Towel
+
+HOW IT WORKS:
+- 💵 Prices live in a LongLongMap: sku and price in cents side by side in one
+  long[], so a lookup is one memory access. No Long keys, no boxed prices,
+  no entry objects.
+- 🏷️ Names are only needed for the receipt, so they are kept apart (names[]
+  plus a second map sku → position) and never slow down a price lookup.
+- 🔒 Once loaded the catalog never changes, so any number of threads can read it.
+- ⚠️ Lines that can't be parsed are skipped and counted (see malformed()).
+====================================================================================
+*/
+public class PriceCatalog {
+
+    static final long NOT_FOUND = -1;
+
+    private final LongLongMap prices;
+    private final LongLongMap nameIndex;
+    private String[] names;
+    private long malformed;
+
+    private PriceCatalog(int expected) {
+        prices = new LongLongMap(expected);
+        nameIndex = new LongLongMap(expected);
+        names = new String[Math.max(1, expected)];
+    }
+
+    // 📂 load() – read "sku,price,name" lines (a first line starting with "sku" is a header)
+    static PriceCatalog load(Path file) throws IOException {
+        PriceCatalog catalog = new PriceCatalog(1 << 10);
+        try (BufferedReader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line = in.readLine();
+            if (line != null && line.startsWith("sku")) {
+                line = in.readLine();
+            }
+            for (; line != null; line = in.readLine()) {
+                if (!line.isBlank() && !catalog.parseLine(line)) {
+                    catalog.malformed++;
+                }
+            }
+        }
+        return catalog;
+    }
+
+    private boolean parseLine(String line) {
+        int first = line.indexOf(',');
+        int second = first < 0 ? -1 : line.indexOf(',', first + 1);
+        if (second < 0) {
+            return false;
+        }
+        try {
+            long sku = Long.parseLong(line, 0, first, 10);
+            long cents = toCents(line.substring(first + 1, second).trim());
+            put(sku, cents, line.substring(second + 1).trim());
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    // 💲 toCents() – "19.99" → 1999 (digits, optional dot, up to two decimals — exact, no double rounding)
+    static long toCents(String price) {
+        long cents = 0;
+        int decimals = -1;   // -1 until we pass the dot
+        for (int i = 0; i < price.length(); i++) {
+            char c = price.charAt(i);
+            if (c == '.' && decimals < 0 && i > 0) {
+                decimals = 0;
+            } else if (c >= '0' && c <= '9' && decimals < 2) {
+                cents = Math.addExact(Math.multiplyExact(cents, 10), c - '0');
+                if (decimals >= 0) {
+                    decimals++;
+                }
+            } else {
+                throw new NumberFormatException("Not a price: " + price);
+            }
+        }
+        if (price.isEmpty()) {
+            throw new NumberFormatException("Empty price");
+        }
+        for (int d = Math.max(decimals, 0); d < 2; d++) {
+            cents = Math.multiplyExact(cents, 10);
+        }
+        return cents;
+    }
+
+    private void put(long sku, long cents, String name) {
+        if (sku < 0) {
+            throw new NumberFormatException("SKUs are never negative");
+        }
+        long i = nameIndex.get(sku, NOT_FOUND);
+        if (i == NOT_FOUND) {
+            i = nameIndex.size();
+            if (i == names.length) {
+                names = Arrays.copyOf(names, names.length * 2);
+            }
+            nameIndex.put(sku, i);
+        }
+        prices.put(sku, cents);   // a later line for the same SKU wins
+        names[(int) i] = name;
+    }
+
+    // 🔍 price() – price of a SKU in cents, or NOT_FOUND
+    long price(long sku) {
+        return prices.get(sku, NOT_FOUND);
+    }
+
+    // 🏷️ name() – name of a SKU, or null
+    String name(long sku) {
+        long i = nameIndex.get(sku, NOT_FOUND);
+        return i == NOT_FOUND ? null : names[(int) i];
+    }
+
+    int size() {
+        return prices.size();
+    }
+
+    long malformed() {
+        return malformed;
+    }
+
+    // 🧪 writeSample() – a catalog of `count` made-up products with SKUs 100000, 100001, ...
+    static void writeSample(Path file, int count) throws IOException {
+        SplittableRandom random = new SplittableRandom(count);
+        String[] things = {"Mug", "Towel", "Lamp", "Notebook", "Pen", "Chair", "Plant", "Socks"};
+        String[] colors = {"Blue", "Red", "Green", "Black", "White"};
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write("sku,price,name\n");
+            for (int i = 0; i < count; i++) {
+                long cents = random.nextLong(50, 50_000);
+                out.write(String.format("%d,%d.%02d,%s %s%n", 100_000 + i, cents / 100, cents % 100,
+                        colors[random.nextInt(colors.length)], things[random.nextInt(things.length)]));
+            }
+        }
+    }
+}
@@ -0,0 +1,157 @@
+import java.util.SplittableRandom;
+
+/*
+====================================================================================
+⏱️ COLUMN BENCHMARK – ROW BY ROW vs WHOLE COLUMNS
+====================================================================================
+
+🎯 GOAL:
+Show what ColumnEvaluator buys. Two columns a[] and b[] are combined two ways:
+
+  🐢 ROW BY ROW: Main.calculate(a[i], operator, b[i]) for every row — the
+                calculator's scalar switch, checked again for every row
+  🚀 COLUMNS:   ColumnEvaluator.apply(a, operator, b, out) — operator checked
+                once, one tight loop, chunks of rows in parallel
+
+and then the same for a whole formula over the columns a and b:
+
+  🐢 ROW BY ROW: expression.evaluate(a[i], b[i]) for every row
+  🚀 COLUMNS:   ColumnEvaluator.evaluate(expression, {a, b}, out)
+
+NOTE: for ONE simple operator the JIT often inlines Main.calculate() and lifts
+the switch out of the loop, so row by row is already fast and both ways are
+limited by memory speed; the bigger wins are whole formulas and extra cores.
+
+RUN:
+  java ColumnBenchmark [rows] [operator] [formula over a and b]
+====================================================================================
+*/
+public class ColumnBenchmark {
+
+    static final int WARMUP_ROUNDS = 3;
+    static final int MEASURED_ROUNDS = 5;
+
+    public static void main(String[] args) {
+
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        char operator = args.length > 1 ? args[1].charAt(0) : '^';
+        String formula = args.length > 2 ? args[2] : "a * (1 + b / 12) ^ 12 - sqrt(a) / b";
+
+        Expression expression = Expression.compile(formula);
+        double[][] columns = new double[expression.variables().length][];
+
+        // 📦 Columns a and b (a few b's are 0 so the divide-by-zero path is exercised too)
+        SplittableRandom random = new SplittableRandom(42);
+        double[] a = new double[rows];
+        double[] b = new double[rows];
+        for (int i = 0; i < rows; i++) {
+            a[i] = random.nextDouble(0.5, 2);
+            b[i] = i % 1_000 == 0 ? 0 : random.nextDouble(0.5, 2);
+        }
+        String[] names = expression.variables();
+        for (int v = 0; v < names.length; v++) {
+            switch (names[v]) {
+                case "a" -> columns[v] = a;
+                case "b" -> columns[v] = b;
+                default -> throw new IllegalArgumentException("The formula may only use the variables a and b");
+            }
+        }
+
+        System.out.println("===============================");
+        System.out.println("   ⏱️ COLUMN BENCHMARK");
+        System.out.println("===============================");
+        System.out.printf("📦 %,d rows, %d cores%n", rows, Runtime.getRuntime().availableProcessors());
+
+        double[] slow = new double[rows];
+        double[] fast = new double[rows];
+
+        // ⌃ One operator
+        System.out.println("🔄 a " + operator + " b");
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            rowByRow(a, operator, b, slow);
+            ColumnEvaluator.apply(a, operator, b, fast);
+        }
+        long best = Long.MAX_VALUE;
+        long slowZeros = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            slowZeros = rowByRow(a, operator, b, slow);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        System.out.printf("🐢 row by row | %,14.0f rows/sec%n", rows / (best / 1_000_000_000.0));
+        best = Long.MAX_VALUE;
+        long fastZeros = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            fastZeros = ColumnEvaluator.apply(a, operator, b, fast);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        System.out.printf("🚀 columns    | %,14.0f rows/sec%n", rows / (best / 1_000_000_000.0));
+        report(slow, fast, slowZeros, fastZeros);
+
+        // 🧮 A whole formula
+        System.out.println("🧮 " + formula);
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            rowByRow(expression, columns, slow);
+            ColumnEvaluator.evaluate(expression, columns, fast);
+        }
+        best = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            slowZeros = rowByRow(expression, columns, slow);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        System.out.printf("🐢 row by row | %,14.0f rows/sec%n", rows / (best / 1_000_000_000.0));
+        best = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            fastZeros = ColumnEvaluator.evaluate(expression, columns, fast);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        System.out.printf("🚀 columns    | %,14.0f rows/sec%n", rows / (best / 1_000_000_000.0));
+        report(slow, fast, slowZeros, fastZeros);
+    }
+
+    // 🐢 rowByRow() – the scalar calculator, once per row (divide by zero → NaN, like the column path)
+    static long rowByRow(double[] a, char operator, double[] b, double[] out) {
+        long zeroDivisions = 0;
+        for (int i = 0; i < a.length; i++) {
+            try {
+                out[i] = Main.calculate(a[i], operator, b[i]);
+            } catch (ArithmeticException e) {
+                out[i] = Double.NaN;
+                zeroDivisions++;
+            }
+        }
+        return zeroDivisions;
+    }
+
+    static long rowByRow(Expression expression, double[][] columns, double[] out) {
+        double[] row = new double[columns.length];
+        long zeroDivisions = 0;
+        for (int i = 0; i < out.length; i++) {
+            for (int v = 0; v < columns.length; v++) {
+                row[v] = columns[v][i];
+            }
+            try {
+                out[i] = expression.evaluate(row);
+            } catch (ArithmeticException e) {
+                out[i] = Double.NaN;
+                zeroDivisions++;
+            }
+        }
+        return zeroDivisions;
+    }
+
+    static void report(double[] slow, double[] fast, long slowZeros, long fastZeros) {
+        long differences = 0;
+        for (int i = 0; i < slow.length; i++) {
+            if (Double.compare(slow[i], fast[i]) != 0) {
+                differences++;
+            }
+        }
+        System.out.println(differences == 0 && slowZeros == fastZeros
+                ? "✅ Same results (" + fastZeros + " rows divided by zero)"
+                : "❌ " + differences + " rows differ!");
+    }
+}
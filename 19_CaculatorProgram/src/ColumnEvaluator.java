@@ -0,0 +1,114 @@
+import java.util.stream.IntStream;
+
+/*
+====================================================================================
+▦ COLUMN EVALUATOR – ONE OPERATOR, MILLIONS OF ROWS
+====================================================================================
+
+🎯 GOAL:
+The calculator's switch works on two numbers. Here the numbers come in COLUMNS:
+
+    a = [2, 3, 4, ...]   ^   b = [10, 2, 0.5, ...]   →   out = [1024, 9, 2, ...]
+
+HOW IT WORKS:
+- ➕➖✖️➗ The operator is checked ONCE, then one plain loop runs over the
+  double[] arrays. A loop like out[i] = a[i] + b[i] is what the JIT turns into
+  SIMD instructions (several rows per CPU instruction). Java 17 has no stable
+  Vector API, so these simple loops are the way to get there.
+- ⌃ Math.pow() can't be turned into SIMD, so ^ gains mostly from the threads.
+- 🧮 A compiled Expression runs block by block over its columns
+  (see Expression.evaluate(columns, ...)).
+- 🧵 Big inputs are cut into CHUNKS of rows that run in parallel; every chunk
+  writes its own part of `out`, so no locking is needed.
+
+⚠️ SAME RULES AS THE SIMPLE CALCULATOR, ROW BY ROW:
+- A row that divides by zero gets NaN and is counted (return value) — one bad
+  row doesn't throw away the other millions.
+- An invalid operator → IllegalArgumentException before any row is touched.
+====================================================================================
+*/
+public class ColumnEvaluator {
+
+    static final int CHUNKS = 256;
+    static final int PARALLEL_THRESHOLD = 1 << 16;   // rows; below this one thread is faster
+
+    // ▦ apply() – out[i] = a[i] operator b[i]; returns how many rows divided by zero
+    static long apply(double[] a, char operator, double[] b, double[] out) {
+        if ("+-*/^".indexOf(operator) < 0) {
+            throw new IllegalArgumentException(Expression.INVALID_OPERATOR);
+        }
+        if (b.length != a.length || out.length < a.length) {
+            throw new IllegalArgumentException("Columns must have the same length");
+        }
+        int rows = a.length;
+        if (rows < PARALLEL_THRESHOLD) {
+            return apply(a, operator, b, out, 0, rows);
+        }
+        return IntStream.range(0, CHUNKS).parallel().mapToLong(chunk -> {
+            int from = (int) ((long) rows * chunk / CHUNKS);
+            int to = (int) ((long) rows * (chunk + 1) / CHUNKS);
+            return apply(a, operator, b, out, from, to);
+        }).sum();
+    }
+
+    private static long apply(double[] a, char operator, double[] b, double[] out, int from, int to) {
+        switch (operator) {
+            case '+' -> {
+                for (int i = from; i < to; i++) {
+                    out[i] = a[i] + b[i];
+                }
+            }
+            case '-' -> {
+                for (int i = from; i < to; i++) {
+                    out[i] = a[i] - b[i];
+                }
+            }
+            case '*' -> {
+                for (int i = from; i < to; i++) {
+                    out[i] = a[i] * b[i];
+                }
+            }
+            case '/' -> {
+                long zeroDivisions = 0;
+                for (int i = from; i < to; i++) {
+                    out[i] = a[i] / b[i];
+                    zeroDivisions += b[i] == 0 ? 1 : 0;
+                }
+                // ❗ Only when zeros were found: a second pass marks those rows as NaN
+                if (zeroDivisions > 0) {
+                    for (int i = from; i < to; i++) {
+                        if (b[i] == 0) {
+                            out[i] = Double.NaN;
+                        }
+                    }
+                }
+                return zeroDivisions;
+            }
+            case '^' -> {
+                for (int i = from; i < to; i++) {
+                    out[i] = Math.pow(a[i], b[i]);
+                }
+            }
+            default -> throw new IllegalArgumentException(Expression.INVALID_OPERATOR);
+        }
+        return 0;
+    }
+
+    // 🧮 evaluate() – out[i] = expression with variable v taken from columns[v][i]; returns rows that divided by zero
+    static long evaluate(Expression expression, double[][] columns, double[] out) {
+        int rows = out.length;
+        for (double[] column : columns) {
+            if (column.length < rows) {
+                throw new IllegalArgumentException("Every column needs " + rows + " rows");
+            }
+        }
+        if (rows < PARALLEL_THRESHOLD) {
+            return expression.evaluate(columns, 0, rows, out);
+        }
+        return IntStream.range(0, CHUNKS).parallel().mapToLong(chunk -> {
+            int from = (int) ((long) rows * chunk / CHUNKS);
+            int to = (int) ((long) rows * (chunk + 1) / CHUNKS);
+            return expression.evaluate(columns, from, to, out);
+        }).sum();
+    }
+}
@@ -0,0 +1,172 @@
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+
+/*
+====================================================================================
+🎯 EXACT CALCULATOR – WHEN double IS NOT PRECISE ENOUGH
+====================================================================================
+
+🎯 GOAL:
+The normal calculator uses double: fast, but only ~16 digits, so 0.1 + 0.2 or
+3 ^ 50 come out slightly wrong. An ExactCalculator is a SESSION with a chosen
+number type and its own precision:
+
+  🔢 DECIMAL:  BigDecimal, rounded to `digits` significant digits (MathContext)
+               e.g. digits = 50 → 1 / 7 = 0.14285714285714285714285714285714285714285714285714
+  ➗ RATIONAL: exact fractions (Rational) — never rounded: 0.1 + 0.2 = 3/10,
+               2 ^ 200 = all 61 digits. A fraction also gets a decimal
+               approximation to `digits` digits: 1 / 3 = 1/3 ≈ 0.3333...
+
+HOW IT WORKS:
+- Same operators and same errors as the simple calculator (divide by zero,
+  invalid operator). ^ needs a whole-number exponent here.
+- ⌃ pow() uses EXPONENTIATION BY SQUARING: x^13 = x^8 · x^4 · x^1, so about
+  log2(n) multiplications instead of n. Squaring keeps both factors the same
+  size, which is exactly when BigInteger's Karatsuba / Toom-Cook multiplication
+  (used automatically for big numbers) helps most.
+- The double calculator (Main.calculate) is untouched and stays the default —
+  nothing here runs unless a session is created.
+
+NOTE: a session never changes after it is made, so threads can share one.
+====================================================================================
+*/
+public class ExactCalculator {
+
+    enum Backend { DECIMAL, RATIONAL }
+
+    static final String WHOLE_EXPONENT = "❌ Exact mode needs a whole-number exponent (e.g. 2 ^ 100)";
+    static final String TOO_BIG = "❌ The result is too big (or too small) to write down";
+
+    private final Backend backend;
+    private final MathContext context;
+
+    ExactCalculator(Backend backend, int digits) {
+        if (digits < 1) {
+            throw new IllegalArgumentException("Precision must be at least 1 digit");
+        }
+        this.backend = backend;
+        this.context = new MathContext(digits);
+    }
+
+    // 🧮 calculate() – "num1 operator num2" as text in, result as text out
+    String calculate(String num1, char operator, String num2) {
+        if ("+-*/^".indexOf(operator) < 0) {
+            throw new IllegalArgumentException(Expression.INVALID_OPERATOR);   // 🚫 before any parsing
+        }
+        if (backend == Backend.RATIONAL) {
+            Rational result = calculate(Rational.parse(num1), operator, Rational.parse(num2));
+            return result.isInteger() ? result.toString() : result + " ≈ " + result.toBigDecimal(context);
+        }
+        return calculate(decimal(num1), operator, decimal(num2)).toString();
+    }
+
+    // 🔢 DECIMAL backend
+    BigDecimal calculate(BigDecimal num1, char operator, BigDecimal num2) {
+        return switch (operator) {
+            case '+' -> num1.add(num2, context);
+            case '-' -> num1.subtract(num2, context);
+            case '*' -> num1.multiply(num2, context);
+            case '/' -> {
+                if (num2.signum() == 0) {
+                    throw new ArithmeticException(Expression.DIVIDE_BY_ZERO);
+                }
+                yield num1.divide(num2, context);
+            }
+            case '^' -> pow(num1, wholeExponent(num2), context);
+            default -> throw new IllegalArgumentException(Expression.INVALID_OPERATOR);
+        };
+    }
+
+    // ➗ RATIONAL backend
+    Rational calculate(Rational num1, char operator, Rational num2) {
+        return switch (operator) {
+            case '+' -> num1.add(num2);
+            case '-' -> num1.subtract(num2);
+            case '*' -> num1.multiply(num2);
+            case '/' -> num1.divide(num2);
+            case '^' -> num1.pow(wholeExponent(num2.isInteger(), num2.numerator()));
+            default -> throw new IllegalArgumentException(Expression.INVALID_OPERATOR);
+        };
+    }
+
+    /*
+    ╔═══════════════════════════════════════╗
+    ║        ⌃ EXPONENTIATION BY SQUARING    ║
+    ╚═══════════════════════════════════════╝
+    ➤ Walk the bits of n from the lowest: square the base every step, and
+      multiply it into the result when the bit is 1.
+    ➤ Every multiplication is rounded, so the work is done with a few extra
+      "guard" digits (more for bigger n) and rounded to `context` only at the end.
+    */
+    static BigDecimal pow(BigDecimal base, long exponent, MathContext context) {
+        if (exponent == 0) {
+            return BigDecimal.ONE;
+        }
+        if (base.signum() == 0) {
+            if (exponent < 0) {
+                throw new ArithmeticException(Expression.DIVIDE_BY_ZERO);   // 0^-n = 1/0
+            }
+            return BigDecimal.ZERO;
+        }
+        long n = Math.abs(exponent);
+        MathContext work = new MathContext(context.getPrecision() + Long.toString(n).length() + 3, context.getRoundingMode());
+
+        BigDecimal result = BigDecimal.ONE;
+        BigDecimal square = base;
+        try {
+            while (true) {
+                if ((n & 1) == 1) {
+                    result = result.multiply(square, work);
+                }
+                n >>>= 1;
+                if (n == 0) {
+                    break;
+                }
+                square = square.multiply(square, work);
+            }
+            if (exponent < 0) {
+                result = BigDecimal.ONE.divide(result, work);
+            }
+        } catch (ArithmeticException e) {
+            // 🛑 e.g. 2 ^ 1e18: the digits fit, but the exponent of 10 (the scale) doesn't fit in an int
+            throw new ArithmeticException(TOO_BIG);
+        }
+        return result.round(context);
+    }
+
+    Backend backend() {
+        return backend;
+    }
+
+    MathContext context() {
+        return context;
+    }
+
+    // (a BigDecimal exponent is checked BEFORE it is turned into a whole number:
+    //  toBigInteger() of 1e99999999 would build a 100-million-digit number first)
+    private static long wholeExponent(BigDecimal value) {
+        long exponent;
+        try {
+            exponent = value.longValueExact();   // throws at once for more than 19 digits or a fraction
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException(WHOLE_EXPONENT);
+        }
+        return wholeExponent(true, BigInteger.valueOf(exponent));
+    }
+
+    private static long wholeExponent(boolean whole, BigInteger value) {
+        if (!whole || value.bitLength() > 62) {
+            throw new IllegalArgumentException(WHOLE_EXPONENT);
+        }
+        return value.longValue();
+    }
+
+    private static BigDecimal decimal(String text) {
+        try {
+            return new BigDecimal(text.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("❌ Not a number: " + text);
+        }
+    }
+}
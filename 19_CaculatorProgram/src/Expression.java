@@ -0,0 +1,550 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/*
+====================================================================================
+🧮 EXPRESSION – PARSE ONCE, EVALUATE MILLIONS OF TIMES
+====================================================================================
+
+🎯 GOAL:
+Go beyond "number operator number". A whole formula is understood:
+
+    2 + 3 * 4            → 14        (✖️ before ➕)
+    (2 + 3) * 4          → 20        (parentheses first)
+    2 ^ 3 ^ 2            → 512       (^ is right-to-left: 2 ^ 9)
+    -2 ^ 2               → -4        (^ before the minus sign)
+    price * (1 + rate)   → variables, filled in at evaluation time
+    sqrt(x) + max(a, b)  → functions
+
+HOW IT WORKS:
+1️⃣ compile() reads the text ONCE (a recursive-descent parser: one method per
+   precedence level) and writes a tiny POSTFIX program, e.g.
+
+       price * (1 + rate)   →   var price, const 1, var rate, add, mul
+
+   Each instruction is ONE int: opcode in the low 8 bits, argument above it.
+2️⃣ evaluate() runs that program on a small double[] stack that was made at
+   compile time — no parsing, no objects, no allocation per evaluation.
+
+⚠️ SAME RULES AS THE SIMPLE CALCULATOR:
+- Dividing by zero → ArithmeticException "❌ Cannot divide by zero!"
+- An unknown operator (e.g. 5 % 2) → IllegalArgumentException
+  "❌ Invalid operator! Please use one of +, -, *, /, ^"
+
+NOTE: evaluate(variables) reuses the expression's own stack, so one Expression
+is for ONE thread at a time. Other threads pass their own stack to
+evaluate(variables, stack) (size: stackSize()).
+====================================================================================
+*/
+public class Expression {
+
+    static final String DIVIDE_BY_ZERO = "❌ Cannot divide by zero!";
+    static final String INVALID_OPERATOR = "❌ Invalid operator! Please use one of +, -, *, /, ^";
+
+    // 🔢 Opcodes (low 8 bits of an instruction)
+    static final int CONST = 0, VAR = 1, ADD = 2, SUB = 3, MUL = 4, DIV = 5, POW = 6, NEG = 7, CALL = 8;
+
+    // 🧰 Functions: FUNCTIONS[i] takes ARITY[i] arguments (the CALL argument is i)
+    static final String[] FUNCTIONS = {"sqrt", "abs", "ln", "log", "exp", "sin", "cos", "tan", "floor", "ceil", "round", "min", "max"};
+    static final int[] ARITY = {1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 2, 2};
+
+    // 🪆 Deepest nesting a formula may have, e.g. 256 "(" in a row
+    static final int MAX_NESTING = 256;
+
+    private final String text;
+    private final int[] code;
+    private final double[] constants;
+    private final String[] variables;
+    private final double[] stack;
+
+    private Expression(String text, int[] code, double[] constants, String[] variables, int stackSize) {
+        this.text = text;
+        this.code = code;
+        this.constants = constants;
+        this.variables = variables;
+        this.stack = new double[stackSize];
+    }
+
+    /*
+    ╔═══════════════════════════════════════╗
+    ║        📝 COMPILING                    ║
+    ╚═══════════════════════════════════════╝
+    */
+
+    // 📝 compile() – text → postfix program (IllegalArgumentException if it isn't a valid formula)
+    static Expression compile(String text) {
+        Compiler compiler = new Compiler(text);
+        compiler.expression();
+        compiler.skipSpaces();
+        if (compiler.pos < text.length()) {
+            throw compiler.unexpected(true);
+        }
+        return new Expression(text,
+                Arrays.copyOf(compiler.code, compiler.codeLength),
+                compiler.constants.stream().mapToDouble(Double::doubleValue).toArray(),
+                compiler.variables.toArray(new String[0]),
+                compiler.maxDepth);
+    }
+
+    /*
+    ╔═══════════════════════════════════════╗
+    ║        🔤 TOKENS                       ║
+    ╚═══════════════════════════════════════╝
+    ➤ Where a number or a name that starts at `pos` ends. The Compiler reads its
+      tokens with these, and so does ExpressionCache.normalize() — so both always
+      split a formula at the same places ("2e+3" is one number, "2e +3" is not).
+    */
+    static int tokenEnd(String text, int pos) {
+        char c = text.charAt(pos);
+        if (Character.isDigit(c) || c == '.') {
+            return numberEnd(text, pos);
+        }
+        if (Character.isLetter(c) || c == '_') {
+            return nameEnd(text, pos);
+        }
+        return pos + 1;   // operator, parenthesis, comma, or something invalid
+    }
+
+    static int numberEnd(String text, int pos) {
+        while (pos < text.length() && (Character.isDigit(text.charAt(pos)) || text.charAt(pos) == '.')) {
+            pos++;
+        }
+        if (pos < text.length() && (text.charAt(pos) == 'e' || text.charAt(pos) == 'E')) {
+            int exponent = pos + 1;
+            if (exponent < text.length() && (text.charAt(exponent) == '+' || text.charAt(exponent) == '-')) {
+                exponent++;
+            }
+            if (exponent < text.length() && Character.isDigit(text.charAt(exponent))) {
+                pos = exponent;
+                while (pos < text.length() && Character.isDigit(text.charAt(pos))) {
+                    pos++;
+                }
+            }
+        }
+        return pos;
+    }
+
+    static int nameEnd(String text, int pos) {
+        while (pos < text.length() && (Character.isLetterOrDigit(text.charAt(pos)) || text.charAt(pos) == '_')) {
+            pos++;
+        }
+        return pos;
+    }
+
+    private static final class Compiler {
+
+        final String text;
+        int pos;
+
+        int[] code = new int[16];
+        int codeLength;
+        final List<Double> constants = new ArrayList<>();
+        final List<String> variables = new ArrayList<>();
+        int depth;
+        int maxDepth;
+        int nesting;   // how deep the parser is right now (see unary())
+
+        Compiler(String text) {
+            this.text = text;
+        }
+
+        // expression := term (('+' | '-') term)*
+        void expression() {
+            term();
+            for (char c = peek(); c == '+' || c == '-'; c = peek()) {
+                pos++;
+                term();
+                emit(c == '+' ? ADD : SUB, 0, -1);
+            }
+        }
+
+        // term := unary (('*' | '/') unary)*
+        void term() {
+            unary();
+            for (char c = peek(); c == '*' || c == '/'; c = peek()) {
+                pos++;
+                unary();
+                emit(c == '*' ? MUL : DIV, 0, -1);
+            }
+        }
+
+        // unary := ('-' | '+') unary | power
+        //    Every way of nesting (parentheses, function calls, "- - -x", "2^2^2") passes through
+        //    here, so this is where the depth is counted — too deep is a formula error, not a crash.
+        void unary() {
+            if (++nesting > MAX_NESTING) {
+                throw new IllegalArgumentException("❌ The formula is nested too deeply (more than " + MAX_NESTING + " levels)");
+            }
+            char c = peek();
+            if (c == '-' || c == '+') {
+                pos++;
+                unary();
+                if (c == '-') {
+                    emit(NEG, 0, 0);
+                }
+            } else {
+                power();
+            }
+            nesting--;
+        }
+
+        // power := primary ('^' unary)?      (right-to-left: 2^3^2 = 2^(3^2))
+        void power() {
+            primary();
+            if (peek() == '^') {
+                pos++;
+                unary();
+                emit(POW, 0, -1);
+            }
+        }
+
+        // primary := number | name | name '(' arguments ')' | '(' expression ')'
+        void primary() {
+            char c = peek();
+            if (c == '(') {
+                pos++;
+                expression();
+                expect(')');
+            } else if (Character.isDigit(c) || c == '.') {
+                number();
+            } else if (Character.isLetter(c) || c == '_') {
+                name();
+            } else {
+                throw unexpected(false);
+            }
+        }
+
+        void number() {
+            int start = pos;
+            pos = numberEnd(text, pos);
+            try {
+                constant(Double.parseDouble(text.substring(start, pos)));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("❌ Not a number: " + text.substring(start, pos));
+            }
+        }
+
+        void name() {
+            int start = pos;
+            pos = nameEnd(text, pos);
+            String name = text.substring(start, pos);
+
+            if (peek() == '(') {
+                pos++;
+                int function = Arrays.asList(FUNCTIONS).indexOf(name);
+                if (function < 0) {
+                    throw new IllegalArgumentException("❌ Unknown function: " + name + "(). Known: " + String.join(", ", FUNCTIONS));
+                }
+                int arguments = 0;
+                if (peek() != ')') {
+                    expression();
+                    arguments++;
+                    while (peek() == ',') {
+                        pos++;
+                        expression();
+                        arguments++;
+                    }
+                }
+                expect(')');
+                if (arguments != ARITY[function]) {
+                    throw new IllegalArgumentException("❌ " + name + "() takes " + ARITY[function] + " argument(s), got " + arguments);
+                }
+                emit(CALL, function, 1 - arguments);
+            } else if (name.equals("pi")) {
+                constant(Math.PI);
+            } else if (name.equals("e")) {
+                constant(Math.E);
+            } else {
+                int slot = variables.indexOf(name);
+                if (slot < 0) {
+                    slot = variables.size();
+                    variables.add(name);
+                }
+                emit(VAR, slot, 1);
+            }
+        }
+
+        void constant(double value) {
+            int index = constants.indexOf(value);
+            if (index < 0) {
+                index = constants.size();
+                constants.add(value);
+            }
+            emit(CONST, index, 1);
+        }
+
+        // ✍️ emit() – append one instruction; `stackChange` tracks how deep the stack can get
+        void emit(int opcode, int argument, int stackChange) {
+            if (codeLength == code.length) {
+                code = Arrays.copyOf(code, code.length * 2);
+            }
+            code[codeLength++] = opcode | argument << 8;
+            depth += stackChange;
+            maxDepth = Math.max(maxDepth, depth);
+        }
+
+        void expect(char c) {
+            if (peek() != c) {
+                throw unexpected(true);
+            }
+            pos++;
+        }
+
+        char peek() {
+            skipSpaces();
+            return pos < text.length() ? text.charAt(pos) : '\0';
+        }
+
+        void skipSpaces() {
+            while (pos < text.length() && Character.isWhitespace(text.charAt(pos))) {
+                pos++;
+            }
+        }
+
+        // 🚫 A symbol where an OPERATOR belongs is an invalid operator, like in the simple calculator
+        IllegalArgumentException unexpected(boolean afterOperand) {
+            if (pos >= text.length()) {
+                return new IllegalArgumentException("❌ The formula ends too early: " + text);
+            }
+            char c = text.charAt(pos);
+            if (afterOperand && !Character.isLetterOrDigit(c) && c != '(' && c != ')') {
+                return new IllegalArgumentException(INVALID_OPERATOR + " (found '" + c + "' at position " + (pos + 1) + ")");
+            }
+            return new IllegalArgumentException("❌ Unexpected '" + c + "' at position " + (pos + 1) + " in: " + text);
+        }
+    }
+
+    /*
+    ╔═══════════════════════════════════════╗
+    ║        ⚡ EVALUATING                   ║
+    ╚═══════════════════════════════════════╝
+    */
+
+    // ⚡ evaluate() – run the program; variables[i] is the value of variables()[i]
+    double evaluate(double... variables) {
+        return evaluate(variables, stack);
+    }
+
+    // ⚡ evaluate() with a caller-owned stack (one per thread, at least stackSize() long)
+    double evaluate(double[] variables, double[] stack) {
+        if (variables.length < this.variables.length) {
+            throw new IllegalArgumentException("❌ Expected values for " + Arrays.toString(this.variables));
+        }
+        int[] code = this.code;
+        double[] constants = this.constants;
+        int top = -1;
+        for (int instruction : code) {
+            int argument = instruction >>> 8;
+            switch (instruction & 0xFF) {
+                case CONST -> stack[++top] = constants[argument];
+                case VAR -> stack[++top] = variables[argument];
+                case ADD -> {
+                    top--;
+                    stack[top] += stack[top + 1];
+                }
+                case SUB -> {
+                    top--;
+                    stack[top] -= stack[top + 1];
+                }
+                case MUL -> {
+                    top--;
+                    stack[top] *= stack[top + 1];
+                }
+                case DIV -> {
+                    double divisor = stack[top--];
+                    if (divisor == 0) {
+                        throw new ArithmeticException(DIVIDE_BY_ZERO);
+                    }
+                    stack[top] /= divisor;
+                }
+                case POW -> {
+                    top--;
+                    stack[top] = Math.pow(stack[top], stack[top + 1]);
+                }
+                case NEG -> stack[top] = -stack[top];
+                case CALL -> {
+                    if (ARITY[argument] == 2) {
+                        top--;
+                    }
+                    stack[top] = call(argument, stack[top], ARITY[argument] == 2 ? stack[top + 1] : 0);
+                }
+                default -> throw new IllegalStateException("Bad instruction " + instruction);
+            }
+        }
+        return stack[0];
+    }
+
+    private static double call(int function, double x, double y) {
+        return switch (function) {
+            case 0 -> Math.sqrt(x);
+            case 1 -> Math.abs(x);
+            case 2 -> Math.log(x);
+            case 3 -> Math.log10(x);
+            case 4 -> Math.exp(x);
+            case 5 -> Math.sin(x);
+            case 6 -> Math.cos(x);
+            case 7 -> Math.tan(x);
+            case 8 -> Math.floor(x);
+            case 9 -> Math.ceil(x);
+            case 10 -> Math.rint(x);
+            case 11 -> Math.min(x, y);
+            case 12 -> Math.max(x, y);
+            default -> throw new IllegalStateException("Bad function " + function);
+        };
+    }
+
+    /*
+    ╔═══════════════════════════════════════╗
+    ║        ▦ EVALUATING WHOLE COLUMNS      ║
+    ╚═══════════════════════════════════════╝
+    ➤ Instead of running the whole program once per row, every instruction
+      runs over a BLOCK of rows at a time: "add" becomes one plain loop over
+      BLOCK doubles, which the JIT turns into SIMD instructions. The cost of
+      reading the program is paid once per block instead of once per row.
+    ➤ A row that divides by zero gets NaN in `out` (one bad row must not stop
+      millions of others) and is counted in the return value.
+    ➤ All working memory is local, so different threads can evaluate
+      different row ranges of the same Expression at once (see ColumnEvaluator).
+    */
+    static final int BLOCK = 1024;
+
+    // ▦ evaluate() – rows [from, to): variable i comes from columns[i]; returns how many rows divided by zero
+    long evaluate(double[][] columns, int from, int to, double[] out) {
+        if (columns.length < variables.length) {
+            throw new IllegalArgumentException("❌ Expected columns for " + Arrays.toString(variables));
+        }
+        double[][] stack = new double[Math.max(1, this.stack.length)][BLOCK];
+        boolean[] dividedByZero = new boolean[BLOCK];
+        long zeroDivisions = 0;
+
+        for (int start = from; start < to; start += BLOCK) {
+            int n = Math.min(BLOCK, to - start);
+            boolean anyZero = false;
+            int top = -1;
+            for (int instruction : code) {
+                int argument = instruction >>> 8;
+                switch (instruction & 0xFF) {
+                    case CONST -> Arrays.fill(stack[++top], 0, n, constants[argument]);
+                    case VAR -> System.arraycopy(columns[argument], start, stack[++top], 0, n);
+                    case ADD -> {
+                        double[] x = stack[--top], y = stack[top + 1];
+                        for (int i = 0; i < n; i++) {
+                            x[i] += y[i];
+                        }
+                    }
+                    case SUB -> {
+                        double[] x = stack[--top], y = stack[top + 1];
+                        for (int i = 0; i < n; i++) {
+                            x[i] -= y[i];
+                        }
+                    }
+                    case MUL -> {
+                        double[] x = stack[--top], y = stack[top + 1];
+                        for (int i = 0; i < n; i++) {
+                            x[i] *= y[i];
+                        }
+                    }
+                    case DIV -> {
+                        double[] x = stack[--top], y = stack[top + 1];
+                        for (int i = 0; i < n; i++) {
+                            x[i] /= y[i];
+                        }
+                        for (int i = 0; i < n; i++) {
+                            if (y[i] == 0) {
+                                dividedByZero[i] = true;
+                                anyZero = true;
+                            }
+                        }
+                    }
+                    case POW -> {
+                        double[] x = stack[--top], y = stack[top + 1];
+                        for (int i = 0; i < n; i++) {
+                            x[i] = Math.pow(x[i], y[i]);
+                        }
+                    }
+                    case NEG -> {
+                        double[] x = stack[top];
+                        for (int i = 0; i < n; i++) {
+                            x[i] = -x[i];
+                        }
+                    }
+                    case CALL -> {
+                        if (ARITY[argument] == 2) {
+                            double[] x = stack[--top], y = stack[top + 1];
+                            for (int i = 0; i < n; i++) {
+                                x[i] = call(argument, x[i], y[i]);
+                            }
+                        } else {
+                            double[] x = stack[top];
+                            for (int i = 0; i < n; i++) {
+                                x[i] = call(argument, x[i], 0);
+                            }
+                        }
+                    }
+                    default -> throw new IllegalStateException("Bad instruction " + instruction);
+                }
+            }
+
+            System.arraycopy(stack[0], 0, out, start, n);
+            if (anyZero) {
+                for (int i = 0; i < n; i++) {
+                    if (dividedByZero[i]) {
+                        out[start + i] = Double.NaN;
+                        dividedByZero[i] = false;
+                        zeroDivisions++;
+                    }
+                }
+            }
+        }
+        return zeroDivisions;
+    }
+
+    /*
+    ╔═══════════════════════════════════════╗
+    ║        🔎 LOOKING INSIDE               ║
+    ╚═══════════════════════════════════════╝
+    */
+
+    // 🏷️ variables() – variable names in slot order (the order they first appear)
+    String[] variables() {
+        return variables.clone();
+    }
+
+    int stackSize() {
+        return stack.length;
+    }
+
+    String text() {
+        return text;
+    }
+
+    // 🔎 postfix() – the compiled program, readable: "price 1 rate + *"
+    String postfix() {
+        StringBuilder out = new StringBuilder();
+        for (int instruction : code) {
+            int argument = instruction >>> 8;
+            if (out.length() > 0) {
+                out.append(' ');
+            }
+            switch (instruction & 0xFF) {
+                case CONST -> out.append(constants[argument]);
+                case VAR -> out.append(variables[argument]);
+                case ADD -> out.append('+');
+                case SUB -> out.append('-');
+                case MUL -> out.append('*');
+                case DIV -> out.append('/');
+                case POW -> out.append('^');
+                case NEG -> out.append("neg");
+                case CALL -> out.append(FUNCTIONS[argument]).append("()");
+                default -> out.append('?');
+            }
+        }
+        return out.toString();
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+}
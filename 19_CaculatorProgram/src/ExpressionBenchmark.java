@@ -0,0 +1,178 @@
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/*
+====================================================================================
+⏱️ EXPRESSION BENCHMARK – PARSE EVERY TIME vs CACHE vs COMPILE ONCE
+====================================================================================
+
+🎯 GOAL:
+Show why Expression compiles a formula once. Every row is one evaluation of one
+of `distinct` formulas (the base formula plus a different constant, spaced in
+different ways, like formulas typed by different people), done three ways:
+
+  🐢 PARSE EACH TIME: Expression.compile(text).evaluate(row) for every row
+  🗃️ CACHED:         ExpressionCache.get(text).evaluate(row) — parse only on a miss
+  🚀 COMPILED:       every formula compiled before the loop (the best a cache
+                     could ever do): a loop over an int[] program with a
+                     ready-made double[] stack
+
+Before timing anything it checks that the cache never changes what a formula
+means: for tricky spellings (spaces inside numbers, "2e+3" vs "2e +3", ...)
+ExpressionCache.get(text) must give the same value — or the same error — as
+Expression.compile(text), in whatever order the cache has seen them.
+
+RUN:
+  java ExpressionBenchmark [rows] [distinct] [cacheSize] [formula]
+====================================================================================
+*/
+public class ExpressionBenchmark {
+
+    static final int WARMUP_ROUNDS = 3;
+    static final int MEASURED_ROUNDS = 5;
+
+    public static void main(String[] args) {
+
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int distinct = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+        int cacheSize = args.length > 2 ? Integer.parseInt(args[2]) : 128;
+        String formula = args.length > 3 ? args[3] : "price * (1 + rate / 12) ^ (12 * years) - max(fee, price * 0.01)";
+
+        // 🧮 The formulas: same variables, different constant, different spacing
+        String[] texts = new String[distinct];
+        Expression[] expressions = new Expression[distinct];
+        for (int f = 0; f < distinct; f++) {
+            texts[f] = f % 2 == 0 ? formula + " + " + f : formula.replace(" ", "") + "+" + f;
+            expressions[f] = Expression.compile(texts[f]);
+        }
+        String[] names = expressions[0].variables();
+
+        // 📦 Which formula and which variable values each row uses, all made up front
+        SplittableRandom random = new SplittableRandom(42);
+        int[] formulaOf = new int[rows];
+        double[][] values = new double[rows][names.length];
+        for (int r = 0; r < rows; r++) {
+            formulaOf[r] = random.nextInt(distinct);
+            for (int i = 0; i < names.length; i++) {
+                values[r][i] = random.nextDouble(0.01, 2);
+            }
+        }
+
+        System.out.println("===============================");
+        System.out.println("   ⏱️ EXPRESSION BENCHMARK");
+        System.out.println("===============================");
+        System.out.println("🧮 " + formula);
+        System.out.println("🔎 " + expressions[0].postfix());
+        System.out.printf("📦 %,d rows over %,d formulas, cache of %,d%n", rows, distinct, cacheSize);
+        checkCache();
+
+        double checksum = 0;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            checksum += parseEachTime(texts, formulaOf, values);
+            checksum += cached(new ExpressionCache(cacheSize), texts, formulaOf, values);
+            checksum += compiled(expressions, formulaOf, values);
+        }
+
+        long best = Long.MAX_VALUE;
+        double parsed = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            parsed = parseEachTime(texts, formulaOf, values);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        System.out.printf("🐢 parse each time | %,14.0f evaluations/sec%n", rows / (best / 1_000_000_000.0));
+
+        best = Long.MAX_VALUE;
+        double viaCache = 0;
+        ExpressionCache cache = null;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            cache = new ExpressionCache(cacheSize);
+            long start = System.nanoTime();
+            viaCache = cached(cache, texts, formulaOf, values);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        System.out.printf("🗃️ cached          | %,14.0f evaluations/sec%n", rows / (best / 1_000_000_000.0));
+
+        best = Long.MAX_VALUE;
+        double fast = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            fast = compiled(expressions, formulaOf, values);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        System.out.printf("🚀 compiled        | %,14.0f evaluations/sec%n", rows / (best / 1_000_000_000.0));
+
+        System.out.printf("📊 hits %,d, misses %,d, evictions %,d → hit rate %.1f%%%n",
+                cache.hits(), cache.misses(), cache.evictions(), cache.hitRate() * 100);
+        System.out.println(parsed == fast && viaCache == fast ? "✅ All three ways give the same results" : "❌ Results differ!");
+        System.out.println("(checksum " + checksum + ")");
+    }
+
+    /*
+    ╔═══════════════════════════════════════╗
+    ║        🔍 CACHE == COMPILE             ║
+    ╚═══════════════════════════════════════╝
+    ➤ Every text goes through a fresh cache forwards and backwards, so each one is
+      looked up both before and after the texts that share (or almost share) its key.
+    */
+    static final String[] TRICKY = {
+            "2e+3", "2e +3", "2e+ 3", "2 e+3", "2E-3", "2e-3 ", " 2e-3", "1 2", "12", "1.5", "1. 5", "1 .5",
+            "x+1", "x + 1", " x+ 1 ", "x1", "x 1", "sqrt(4)", "sqrt (4)", "sqrt 4", "max(1,2)", "max( 1 , 2 )",
+            "2x", "2 x", "e", "e+3", "(1+2", "1+2)", "1 +", "", " ", "1 # 2", "1#2"
+    };
+
+    static void checkCache() {
+        int disagreements = 0;
+        for (int pass = 0; pass < 2; pass++) {
+            ExpressionCache cache = new ExpressionCache(TRICKY.length);
+            for (int i = 0; i < TRICKY.length; i++) {
+                String text = TRICKY[pass == 0 ? i : TRICKY.length - 1 - i];
+                String viaCompile = outcome(text, null);
+                String viaCache = outcome(text, cache);
+                if (!viaCompile.equals(viaCache)) {
+                    disagreements++;
+                    System.out.println("❌ \"" + text + "\": compile → " + viaCompile + ", cache → " + viaCache);
+                }
+            }
+        }
+        System.out.println(disagreements == 0
+                ? "✅ Cache agrees with compile on " + TRICKY.length + " tricky formulas"
+                : "❌ Cache and compile disagree " + disagreements + " times!");
+    }
+
+    // 🧾 outcome() – the value (every variable = 1.5) or the error message
+    static String outcome(String text, ExpressionCache cache) {
+        try {
+            Expression expression = cache == null ? Expression.compile(text) : cache.get(text);
+            double[] values = new double[expression.variables().length];
+            Arrays.fill(values, 1.5);
+            return String.valueOf(expression.evaluate(values));
+        } catch (IllegalArgumentException | ArithmeticException e) {
+            return e.getMessage();
+        }
+    }
+
+    static double parseEachTime(String[] texts, int[] formulaOf, double[][] values) {
+        double sum = 0;
+        for (int r = 0; r < values.length; r++) {
+            sum += Expression.compile(texts[formulaOf[r]]).evaluate(values[r]);
+        }
+        return sum;
+    }
+
+    static double cached(ExpressionCache cache, String[] texts, int[] formulaOf, double[][] values) {
+        double sum = 0;
+        for (int r = 0; r < values.length; r++) {
+            sum += cache.get(texts[formulaOf[r]]).evaluate(values[r]);
+        }
+        return sum;
+    }
+
+    static double compiled(Expression[] expressions, int[] formulaOf, double[][] values) {
+        double sum = 0;
+        for (int r = 0; r < values.length; r++) {
+            sum += expressions[formulaOf[r]].evaluate(values[r]);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,131 @@
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/*
+====================================================================================
+🗃️ EXPRESSION CACHE – DON'T PARSE THE SAME FORMULA TWICE
+====================================================================================
+
+🎯 GOAL:
+Most formulas arrive again and again, only with different variable values.
+get(text) hands back the already-compiled Expression, so a repeated formula
+skips parsing completely.
+
+HOW IT WORKS (LRU = Least Recently Used):
+- 🔑 The key is the NORMALIZED text: the formula is cut into tokens exactly
+  like Expression.compile() cuts it (same tokenEnd()), and the tokens are
+  glued back without spaces, so "a+b", "a + b" and " a +b " share one entry.
+  Two numbers/names in a row keep one space between them — "1 2" is an error,
+  not 12, and "2e +3" (an error) never turns into the number "2e+3".
+  Same key ⇒ same tokens ⇒ same result, so get(text) always agrees with
+  Expression.compile(text), whatever was cached before.
+- 📏 At most `capacity` formulas are kept. A LinkedHashMap in ACCESS order puts
+  the formula used longest ago first; when the cache is full that one is
+  EVICTED (removeEldestEntry).
+- ❌ Formulas that don't compile are not cached — the error is thrown every time.
+
+📊 Metrics: hits(), misses(), evictions(), hitRate().
+
+NOTE: every Expression evaluates on its own stack, so a cache (and the
+Expressions it hands out) is meant for ONE thread. Give each thread its own cache.
+====================================================================================
+*/
+public class ExpressionCache {
+
+    private final int capacity;
+    private final LinkedHashMap<String, Expression> compiled;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    ExpressionCache(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be at least 1");
+        }
+        this.capacity = capacity;
+        this.compiled = new LinkedHashMap<>(capacity * 4 / 3 + 1, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Expression> eldest) {
+                if (size() > ExpressionCache.this.capacity) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    // 🔍 get() – the compiled formula, from the cache if it was seen before
+    Expression get(String text) {
+        String key = normalize(text);
+        Expression expression = compiled.get(key);
+        if (expression != null) {
+            hits++;
+            return expression;
+        }
+        misses++;
+        expression = Expression.compile(text);   // original text, so error positions match what was typed
+        compiled.put(key, expression);
+        return expression;
+    }
+
+    // 🧹 normalize() – the formula's tokens, one space only between two numbers/names
+    static String normalize(String text) {
+        StringBuilder out = null;   // stays null while the key is just `text` (no copy)
+        boolean lastWasWord = false;
+        int pos = 0;
+        while (true) {
+            int gap = pos;
+            while (pos < text.length() && Character.isWhitespace(text.charAt(pos))) {
+                pos++;
+            }
+            if (pos == text.length()) {
+                if (out == null && pos > gap) {
+                    out = new StringBuilder(text.substring(0, gap));   // trailing spaces
+                }
+                break;
+            }
+            int end = Expression.tokenEnd(text, pos);
+            boolean word = isWordStart(text.charAt(pos));
+            boolean space = lastWasWord && word;
+            if (out == null && (space ? pos - gap != 1 || text.charAt(gap) != ' ' : pos > gap)) {
+                out = new StringBuilder(text.length()).append(text, 0, gap);
+            }
+            if (out != null) {
+                if (space) {
+                    out.append(' ');
+                }
+                out.append(text, pos, end);
+            }
+            lastWasWord = word;
+            pos = end;
+        }
+        return out == null ? text : out.toString();
+    }
+
+    private static boolean isWordStart(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '.';
+    }
+
+    int size() {
+        return compiled.size();
+    }
+
+    long hits() {
+        return hits;
+    }
+
+    long misses() {
+        return misses;
+    }
+
+    long evictions() {
+        return evictions;
+    }
+
+    double hitRate() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+}
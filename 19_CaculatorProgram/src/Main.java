@@ -1,6 +1,10 @@
+import java.math.MathContext;
 import java.util.Scanner;
 
 public class Main {
+
+    static final String EXACT_USAGE = "❌ Usage: java Main --exact decimal [digits]  or  java Main --exact rational [digits]  (digits ≥ 1)";
+
     public static void main(String[] args) {
 
         /*
@@ -22,19 +26,44 @@ public class Main {
         - Enhanced `switch-case` expression
         - Input validation (e.g. divide by zero)
         - Math.pow() usage
-        - Clean result output with `if` check
+        - Clean result output: an error message is shown INSTEAD of a result
 
         ==========================================================================================
         */
 
         Scanner scanner = new Scanner(System.in); // 🛠️ Create Scanner object for user input
 
+        // 🧮 Formula mode: java Main --expr  (whole formulas with variables, see Expression.java)
+        if (args.length == 1 && args[0].equals("--expr")) {
+            formulaMode(scanner);
+            scanner.close();
+            return;
+        }
+
+        // 🎯 Exact mode: java Main --exact decimal [digits]  or  java Main --exact rational [digits]  (see ExactCalculator.java)
+        if (args.length >= 1 && args[0].equals("--exact")) {
+            ExactCalculator calculator;
+            try {
+                if (args.length < 2) {
+                    throw new IllegalArgumentException("No backend given");
+                }
+                ExactCalculator.Backend backend = ExactCalculator.Backend.valueOf(args[1].toUpperCase());
+                int digits = args.length > 2 ? Integer.parseInt(args[2]) : MathContext.DECIMAL128.getPrecision();
+                calculator = new ExactCalculator(backend, digits);
+            } catch (IllegalArgumentException e) {   // no or unknown backend, digits not a number or < 1
+                System.out.println(EXACT_USAGE);
+                scanner.close();
+                return;
+            }
+            exactMode(scanner, calculator);
+            scanner.close();
+            return;
+        }
+
         // 📦 Variable declarations
         double num1;            // First number input by user
         double num2;            // Second number input by user
         char operator;          // Operator input by user (+, -, *, /, ^)
-        double result = 0;      // Stores the calculated result
-        boolean validOperation = true; // Used to prevent output if invalid input
 
         // 📥 Take first number input
         System.out.print("Enter the first number: ");
@@ -48,39 +77,126 @@ public class Main {
         System.out.print("Enter the second number: ");
         num2 = scanner.nextDouble();
 
-        /*
-        ==========================================================================================
-        🔄 ENHANCED SWITCH: Evaluate based on operator input
-        ==========================================================================================
-        */
+        // ✅ Display result only if operation was valid
+        try {
+            System.out.println("✅ Result: " + calculate(num1, operator, num2));
+        } catch (ArithmeticException | IllegalArgumentException e) {
+            System.out.println(e.getMessage());
+        }
+
+        // 🔒 Close the scanner to avoid memory leak
+        scanner.close();
+    }
 
-        switch (operator) {
-            case '+' -> result = num1 + num2; // ➕ Addition
-            case '-' -> result = num1 - num2; // ➖ Subtraction
-            case '*' -> result = num1 * num2; // ✖️ Multiplication
+    /*
+    ==========================================================================================
+    🔄 ENHANCED SWITCH: Evaluate based on operator input
+    ==========================================================================================
+    ➤ calculate() is the ONE scalar path: the prompt above uses it, and
+      ColumnBenchmark compares it with whole-column evaluation (ColumnEvaluator).
+    ➤ Instead of printing, errors are thrown with the message to show:
+      ArithmeticException for divide by zero, IllegalArgumentException for an
+      invalid operator.
+    */
+    static double calculate(double num1, char operator, double num2) {
+        return switch (operator) {
+            case '+' -> num1 + num2; // ➕ Addition
+            case '-' -> num1 - num2; // ➖ Subtraction
+            case '*' -> num1 * num2; // ✖️ Multiplication
             case '/' -> {
                 // ❗ Handle divide by zero error
                 if (num2 == 0) {
-                    System.out.println("❌ Cannot divide by zero!");
-                    validOperation = false;
-                } else {
-                    result = num1 / num2; // ➗ Division
+                    throw new ArithmeticException(Expression.DIVIDE_BY_ZERO);
                 }
+                yield num1 / num2; // ➗ Division
             }
-            case '^' -> result = Math.pow(num1, num2); // ⌃ Exponentiation (e.g. 2^3 = 8)
-            default -> {
-                // 🚫 Invalid operator
-                System.out.println("❌ Invalid operator! Please use one of +, -, *, /, ^");
-                validOperation = false;
-            }
+            case '^' -> Math.pow(num1, num2); // ⌃ Exponentiation (e.g. 2^3 = 8)
+            default -> throw new IllegalArgumentException(Expression.INVALID_OPERATOR); // 🚫 Invalid operator
+        };
+    }
+
+    /*
+    ╔═══════════════════════════════════════╗
+    ║        🎯 EXACT MODE                   ║
+    ╚═══════════════════════════════════════╝
+    ➤ Same questions as above, but the numbers are read as TEXT so no digit
+      is lost on the way in (e.g. 0.1, 123456789012345678901234567890, 2/3).
+    */
+    static void exactMode(Scanner scanner, ExactCalculator calculator) {
+        System.out.println("🎯 Exact mode: " + calculator.backend().name().toLowerCase()
+                + ", " + calculator.context().getPrecision() + " digits");
+
+        System.out.print("Enter the first number: ");
+        String num1 = scanner.next();
+        System.out.print("Enter the operator (+, -, *, /, ^): ");
+        char operator = scanner.next().charAt(0);
+        System.out.print("Enter the second number: ");
+        String num2 = scanner.next();
+
+        try {
+            System.out.println("✅ Result: " + calculator.calculate(num1, operator, num2));
+        } catch (ArithmeticException | IllegalArgumentException e) {
+            System.out.println(e.getMessage());
         }
+    }
 
-        // ✅ Display result only if operation was valid
-        if (validOperation) {
-            System.out.println("✅ Result: " + result);
+    /*
+    ╔═══════════════════════════════════════╗
+    ║        🧮 FORMULA MODE                 ║
+    ╚═══════════════════════════════════════╝
+    ➤ Each formula is compiled ONCE, then evaluated for as many sets of
+      variable values as the user wants — same error messages as above.
+    ➤ Formula after formula until an empty line; they all go through one
+      ExpressionCache, so typing a formula again (even spaced differently)
+      skips the parsing. Its hits / misses / evictions are shown at the end.
+    */
+    static final int FORMULA_CACHE_SIZE = 256;
+
+    static void formulaMode(Scanner scanner) {
+        ExpressionCache formulas = new ExpressionCache(FORMULA_CACHE_SIZE);
+        while (true) {
+            System.out.print("Enter a formula (e.g. price * (1 + rate) ^ years), or an empty line to stop: ");
+            if (!scanner.hasNextLine()) {
+                break;
+            }
+            String text = scanner.nextLine();
+            if (text.isBlank()) {
+                break;
+            }
+            try {
+                evaluateFormula(scanner, formulas.get(text));
+            } catch (IllegalArgumentException e) {
+                System.out.println(e.getMessage());
+            }
         }
+        System.out.printf("📊 Formula cache: %d hits, %d misses, %d evictions%n",
+                formulas.hits(), formulas.misses(), formulas.evictions());
+    }
 
-        // 🔒 Close the scanner to avoid memory leak
-        scanner.close();
+    static void evaluateFormula(Scanner scanner, Expression expression) {
+        System.out.println("🔎 Compiled: " + expression.postfix());
+
+        String[] names = expression.variables();
+        double[] values = new double[names.length];
+        while (true) {
+            for (int i = 0; i < names.length; i++) {
+                System.out.print("Enter " + names[i] + ": ");
+                values[i] = scanner.nextDouble();
+            }
+            try {
+                System.out.println("✅ Result: " + expression.evaluate(values));
+            } catch (ArithmeticException e) {
+                System.out.println(e.getMessage());
+            }
+            if (names.length == 0) {
+                return;   // nothing changes between runs
+            }
+            System.out.print("Again with other values? (y/n): ");
+            boolean again = scanner.next().equalsIgnoreCase("y");
+            scanner.nextLine();   // the rest of that line, so the next formula starts fresh
+            if (!again) {
+                return;
+            }
+        }
     }
 }
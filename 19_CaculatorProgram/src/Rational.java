@@ -0,0 +1,167 @@
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+
+/*
+====================================================================================
+➗ RATIONAL – EXACT FRACTIONS, NO ROUNDING EVER
+====================================================================================
+
+🎯 GOAL:
+A double can't hold 1/3 or even 0.1 exactly, so 0.1 + 0.2 = 0.30000000000000004.
+A Rational is numerator / denominator as BigIntegers: 1/10 + 2/10 = 3/10, exactly.
+
+RULES (always kept, so equal fractions look the same):
+- the fraction is fully reduced (gcd of numerator and denominator is 1)
+- the denominator is positive
+- 0 is 0/1
+
+⚡ FAST PATHS:
+- Same denominator (e.g. whole numbers) → add/subtract the numerators, no gcd.
+- pow(): (a/b)^n = a^n / b^n. If a/b is reduced, so is a^n/b^n, so no gcd is
+  needed. BigInteger.pow() squares its way up (exponentiation by squaring), and
+  BigInteger.multiply() switches to Karatsuba / Toom-Cook by itself once the
+  numbers are big, so huge powers like 3^100000 stay fast.
+====================================================================================
+*/
+public final class Rational {
+
+    static final Rational ZERO = new Rational(BigInteger.ZERO, BigInteger.ONE);
+    static final Rational ONE = new Rational(BigInteger.ONE, BigInteger.ONE);
+
+    static final long MAX_RESULT_BITS = 64L << 20;   // 🛑 8 MB numbers — beyond that a power (or an input) is refused
+
+    private final BigInteger numerator;
+    private final BigInteger denominator;
+
+    // (only for values that are already reduced with a positive denominator)
+    private Rational(BigInteger numerator, BigInteger denominator) {
+        this.numerator = numerator;
+        this.denominator = denominator;
+    }
+
+    // 🏗️ of() – numerator / denominator, reduced
+    static Rational of(BigInteger numerator, BigInteger denominator) {
+        if (denominator.signum() == 0) {
+            throw new ArithmeticException(Expression.DIVIDE_BY_ZERO);
+        }
+        if (denominator.signum() < 0) {
+            numerator = numerator.negate();
+            denominator = denominator.negate();
+        }
+        BigInteger gcd = numerator.gcd(denominator);
+        if (!gcd.equals(BigInteger.ONE) && gcd.signum() != 0) {
+            numerator = numerator.divide(gcd);
+            denominator = denominator.divide(gcd);
+        }
+        return new Rational(numerator, denominator);
+    }
+
+    // 📥 parse() – "3", "-2/7", "0.125" (→ 1/8) or "1e-3" (→ 1/1000)
+    static Rational parse(String text) {
+        int slash = text.indexOf('/');
+        try {
+            if (slash >= 0) {
+                return of(new BigInteger(text.substring(0, slash).trim()), new BigInteger(text.substring(slash + 1).trim()));
+            }
+            BigDecimal decimal = new BigDecimal(text.trim());
+            // 🛑 "1e999999999" is a short text but a ~400 MB number: 10^|scale| needs about 3.33 × |scale| bits
+            if (Math.abs((long) decimal.scale()) * 10 / 3 > MAX_RESULT_BITS) {
+                throw new IllegalArgumentException("❌ The number would have more than " + MAX_RESULT_BITS + " bits: " + text);
+            }
+            if (decimal.scale() <= 0) {
+                return new Rational(decimal.toBigIntegerExact(), BigInteger.ONE);
+            }
+            return of(decimal.unscaledValue(), BigInteger.TEN.pow(decimal.scale()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("❌ Not a number: " + text);
+        }
+    }
+
+    Rational add(Rational other) {
+        if (denominator.equals(other.denominator)) {
+            return of(numerator.add(other.numerator), denominator);
+        }
+        return of(numerator.multiply(other.denominator).add(other.numerator.multiply(denominator)),
+                denominator.multiply(other.denominator));
+    }
+
+    Rational subtract(Rational other) {
+        return add(other.negate());
+    }
+
+    Rational multiply(Rational other) {
+        return of(numerator.multiply(other.numerator), denominator.multiply(other.denominator));
+    }
+
+    Rational divide(Rational other) {
+        if (other.numerator.signum() == 0) {
+            throw new ArithmeticException(Expression.DIVIDE_BY_ZERO);
+        }
+        return of(numerator.multiply(other.denominator), denominator.multiply(other.numerator));
+    }
+
+    Rational negate() {
+        return new Rational(numerator.negate(), denominator);
+    }
+
+    // ⌃ pow() – exact power with a whole-number exponent (negative → flipped fraction)
+    Rational pow(long exponent) {
+        if (exponent == 0) {
+            return ONE;
+        }
+        if (numerator.signum() == 0) {
+            if (exponent < 0) {
+                throw new ArithmeticException(Expression.DIVIDE_BY_ZERO);   // 0^-n = 1/0
+            }
+            return ZERO;
+        }
+        if (numerator.abs().equals(BigInteger.ONE) && denominator.equals(BigInteger.ONE)) {
+            return exponent % 2 == 0 ? ONE : this;   // 1^n and (-1)^n, for any n
+        }
+        long n = Math.abs(exponent);
+        long bits = Math.max(numerator.bitLength(), denominator.bitLength());
+        if (n > Integer.MAX_VALUE || bits * n > MAX_RESULT_BITS) {
+            throw new IllegalArgumentException("❌ The result would have more than " + MAX_RESULT_BITS + " bits");
+        }
+        BigInteger top = numerator.pow((int) n);
+        BigInteger bottom = denominator.pow((int) n);
+        if (exponent < 0) {
+            // flip the fraction: still reduced, only the sign has to move to the top
+            return top.signum() < 0 ? new Rational(bottom.negate(), top.negate()) : new Rational(bottom, top);
+        }
+        return new Rational(top, bottom);
+    }
+
+    boolean isInteger() {
+        return denominator.equals(BigInteger.ONE);
+    }
+
+    BigInteger numerator() {
+        return numerator;
+    }
+
+    BigInteger denominator() {
+        return denominator;
+    }
+
+    // 🔢 toBigDecimal() – the decimal approximation shown next to a fraction (2/3 ≈ 0.6667)
+    BigDecimal toBigDecimal(MathContext context) {
+        return new BigDecimal(numerator).divide(new BigDecimal(denominator), context);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Rational r && numerator.equals(r.numerator) && denominator.equals(r.denominator);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * numerator.hashCode() + denominator.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return isInteger() ? numerator.toString() : numerator + "/" + denominator;
+    }
+}
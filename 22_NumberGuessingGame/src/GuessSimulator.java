@@ -0,0 +1,113 @@
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/*
+╔════════════════════════════════════════════════════════════╗
+║      📊 GUESS SIMULATOR — MILLIONS OF GAMES, NO KEYBOARD     ║
+╚════════════════════════════════════════════════════════════╝
+
+➤ Plays `games` games with the Solver against random secret numbers in
+  [min, max] and counts how many guesses each game took.
+
+➤ It checks two things for EVERY game:
+    1️⃣ the hints never contradict each other (Main.hint() is correct)
+    2️⃣ the solver never needs more than ⌈log2(n + 1)⌉ guesses
+
+📌 Using every CPU core:
+    - The games are cut into a fixed number of CHUNKS, each with its own
+      SplittableRandom split off the seed, run as a parallel stream.
+    - Each fork-join task fills its own histogram; they are added at the end.
+    - Same seed → same report, no matter how many cores you have.
+*/
+public class GuessSimulator {
+
+    static final int CHUNKS = 1024;
+
+    // 🚀 run() – simulate the games and print the report
+    static void run(long games, long min, long max, long seed) {
+        if (games < 1 || min > max) {
+            throw new IllegalArgumentException("Need games ≥ 1 and min ≤ max");
+        }
+        long start = System.nanoTime();
+        long[] histogram = simulate(games, min, max, seed);
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        printReport(histogram, games, min, max, seconds);
+    }
+
+    // 🎮 simulate() – histogram[a] = games solved in a guesses; histogram[0] = games that broke the rules
+    static long[] simulate(long games, long min, long max, long seed) {
+        int bound = Solver.maxAttempts(min, max);
+
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] generators = new SplittableRandom[CHUNKS];
+        for (int i = 0; i < CHUNKS; i++) {
+            generators[i] = root.split();
+        }
+
+        return IntStream.range(0, CHUNKS)
+                .parallel()
+                .collect(() -> new long[bound + 1],
+                        (histogram, chunk) -> {
+                            long chunkGames = games / CHUNKS + (chunk < games % CHUNKS ? 1 : 0);
+                            simulateChunk(chunkGames, min, max, bound, generators[chunk], histogram);
+                        },
+                        GuessSimulator::add);
+    }
+
+    // 🔁 simulateChunk() – one secret, one solve, one histogram bump per game
+    static void simulateChunk(long games, long min, long max, int bound, SplittableRandom random, long[] histogram) {
+        for (long g = 0; g < games; g++) {
+            int attempts = Solver.solve(min, max, secret(random, min, max));
+            histogram[attempts < 1 || attempts > bound ? 0 : attempts]++;
+        }
+    }
+
+    // 🎲 secret() – uniform in [min, max], even when max + 1 would overflow
+    static long secret(SplittableRandom random, long min, long max) {
+        if (max < Long.MAX_VALUE) {
+            return random.nextLong(min, max + 1);
+        }
+        if (min > Long.MIN_VALUE) {
+            return random.nextLong(min - 1, max) + 1;
+        }
+        return random.nextLong();
+    }
+
+    // ➕ add() – adds histogram b into histogram a
+    static void add(long[] a, long[] b) {
+        for (int i = 0; i < a.length; i++) {
+            a[i] += b[i];
+        }
+    }
+
+    // 🖨️ printReport() – speed, average guesses, the bound check and the histogram
+    static void printReport(long[] histogram, long games, long min, long max, double seconds) {
+        int bound = histogram.length - 1;
+        long guesses = 0;
+        int worst = 0;
+        for (int a = 1; a <= bound; a++) {
+            guesses += a * histogram[a];
+            if (histogram[a] > 0) {
+                worst = a;
+            }
+        }
+        long failed = histogram[0];
+
+        System.out.println("==============================================");
+        System.out.println("        📊 NUMBER GUESSING SIMULATOR");
+        System.out.println("==============================================");
+        System.out.printf("🔢 Range: %d .. %d%n", min, max);
+        System.out.printf("🎮 %,d games in %.2fs → %,.0f games/sec%n", games, seconds, games / seconds);
+        System.out.printf("📈 Average guesses: %.4f%n", (double) guesses / (games - failed == 0 ? 1 : games - failed));
+        System.out.printf("📏 Worst game: %d guesses (limit ⌈log2(n + 1)⌉ = %d)%n", worst, bound);
+        System.out.println(failed == 0 ? "✅ Every game stayed within the limit" : "❌ " + failed + " games broke the hint rules or the limit!");
+        System.out.println("----------------------------------------------");
+        System.out.println("Guesses |        Games |  Share");
+        for (int a = 1; a <= bound; a++) {
+            if (histogram[a] > 0) {
+                System.out.printf("%7d | %,12d | %5.2f%%%n", a, histogram[a], 100.0 * histogram[a] / games);
+            }
+        }
+        System.out.println("==============================================");
+    }
+}
@@ -0,0 +1,75 @@
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+╔═══════════════════════════════════════╗
+║   🏠 GUESSING ROOM — MANY PLAYERS,     ║
+║      ONE SECRET, ONE WINNER            ║
+╚═══════════════════════════════════════╝
+
+🧠 RULES:
+--------------------------
+- Every player in the room guesses the SAME secret number, all at once.
+- Wrong guesses get the usual TOO LOW / TOO HIGH hint (Main.hint()).
+- The FIRST correct guess wins. Anyone guessing after that — even with
+  the right number — is told the room is CLOSED.
+
+🔒 NO LOCKS:
+--------------------------
+- The winner is an AtomicInteger that starts at NO_WINNER. A correct
+  guess tries compareAndSet(NO_WINNER, player): exactly one thread can
+  ever succeed, so exactly one player wins, however many guess at once.
+- The attempt counter is a LongAdder (striped counter): each thread bumps
+  its own cell, so thousands of guesses per second don't all fight over
+  one number. The cells are only added up when someone asks.
+*/
+public class GuessingRoom {
+
+    static final int NO_WINNER = -1;
+
+    // 🏁 Answers a room can give on top of Main.TOO_LOW / Main.TOO_HIGH
+    static final int WON = 3, CLOSED = 4;
+
+    final long min;
+    final long max;
+    private final long secret;
+    private final AtomicInteger winner = new AtomicInteger(NO_WINNER);
+    private final LongAdder attempts = new LongAdder();
+
+    GuessingRoom(long min, long max, long secret) {
+        if (min > max || secret < min || secret > max) {
+            throw new IllegalArgumentException("Secret must be inside [min, max]");
+        }
+        this.min = min;
+        this.max = max;
+        this.secret = secret;
+    }
+
+    // 👉 guess() – TOO_LOW, TOO_HIGH, WON (you were first) or CLOSED (someone already won)
+    int guess(int player, long guess) {
+        if (winner.get() != NO_WINNER) {
+            return CLOSED;
+        }
+        attempts.increment();
+        int hint = Main.hint(guess, secret);
+        if (hint != Main.CORRECT) {
+            return hint;
+        }
+        return winner.compareAndSet(NO_WINNER, player) ? WON : CLOSED;
+    }
+
+    // 🏆 winner() – the winning player's id, or NO_WINNER
+    int winner() {
+        return winner.get();
+    }
+
+    // 📊 attempts() – guesses made while the room was open
+    long attempts() {
+        return attempts.sum();
+    }
+
+    // 🔓 secret() – only meant for after the game is over
+    long secret() {
+        return secret;
+    }
+}
@@ -2,7 +2,45 @@ import java.util.Random;
 import java.util.Scanner;
 
 public class Main {
-    public static void main(String[] args){
+
+    /*
+    ╔═══════════════════════════════════════╗
+    ║        🧭 HINTS AS NUMBERS             ║
+    ╚═══════════════════════════════════════╝
+    ➤ hint() is the ONE place that decides TOO LOW / TOO HIGH / CORRECT,
+      so the game, the solver and the simulator all follow the same rules.
+    */
+    static final int CORRECT = 0, TOO_LOW = 1, TOO_HIGH = 2;
+
+    // 🧭 hint() – how `guess` compares with the secret number
+    static int hint(long guess, long secret) {
+        if (guess < secret) {
+            return TOO_LOW;
+        } else if (guess > secret) {
+            return TOO_HIGH;
+        }
+        return CORRECT;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+
+        // 🤖 Solver mode: java Main --solve  (the computer plays one game, see Solver.java)
+        if (args.length == 1 && args[0].equals("--solve")) {
+            Solver.playOnce(1, 100, new Random().nextInt(1, 101));
+            return;
+        }
+
+        // 📊 Simulator mode: java Main --simulate <games> <min> <max> <seed>  (see GuessSimulator.java)
+        if (args.length == 5 && args[0].equals("--simulate")) {
+            GuessSimulator.run(Long.parseLong(args[1]), Long.parseLong(args[2]), Long.parseLong(args[3]), Long.parseLong(args[4]));
+            return;
+        }
+
+        // 🏠 Rooms mode: java Main --rooms <rooms> <playersPerRoom> <seed>  (see GuessingRoom.java)
+        if (args.length == 4 && args[0].equals("--rooms")) {
+            RoomSimulator.run(Integer.parseInt(args[1]), Integer.parseInt(args[2]), Long.parseLong(args[3]));
+            return;
+        }
 
         /*
         ╔═══════════════════════════════════════╗
@@ -48,14 +86,14 @@ public class Main {
             attempts++; // Count the guess
 
             // 🔍 STEP 6: Feedback logic
-            if(guess < randomNumber){
-                System.out.println("📉 TOO LOW! Try again.");
-            } else if (guess > randomNumber){
-                System.out.println("📈 TOO HIGH! Try again.");
-            } else {
-                // ✅ Correct guess
-                System.out.println("🎉 CORRECT! The number was " + randomNumber);
-                System.out.println("📊 Total Attempts: " + attempts);
+            switch (hint(guess, randomNumber)) {
+                case TOO_LOW -> System.out.println("📉 TOO LOW! Try again.");
+                case TOO_HIGH -> System.out.println("📈 TOO HIGH! Try again.");
+                default -> {
+                    // ✅ Correct guess
+                    System.out.println("🎉 CORRECT! The number was " + randomNumber);
+                    System.out.println("📊 Total Attempts: " + attempts);
+                }
             }
 
         } while(guess != randomNumber); // Loop continues while guess is wrong
@@ -0,0 +1,144 @@
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+╔════════════════════════════════════════════════════════════╗
+║     🏠 ROOM SIMULATOR — THOUSANDS OF PLAYERS, SAME SECRETS   ║
+╚════════════════════════════════════════════════════════════╝
+
+➤ Opens `rooms` GuessingRooms and lets `players` bots loose in EACH one,
+  all at the same time.
+
+➤ A few worker threads (two per core) share the bots: each worker gives
+  every one of its bots one guess per turn, so every room is hammered by
+  several threads at once for the whole game.
+
+➤ Every bot narrows its own range with the hints, but guesses a RANDOM
+  number inside it (not the middle), so the bots don't all guess the same
+  thing and several of them often find the secret at nearly the same time.
+
+➤ Checks: every room has a winner, and the number of WON answers equals
+  the number of rooms — so no room was ever won twice.
+
+➤ The secrets depend only on the seed; WHICH player wins depends on
+  thread timing, and that's the point.
+*/
+public class RoomSimulator {
+
+    static final long MIN = 1;
+    static final long MAX = 1_000_000_000;
+
+    // 🚀 run() – play every room to the end and print the report
+    static void run(int rooms, int players, long seed) throws InterruptedException {
+        if (rooms < 1 || players < 1 || (long) rooms * players > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Need at least one room and one player (and not too many of them)");
+        }
+
+        SplittableRandom root = new SplittableRandom(seed);
+        GuessingRoom[] all = new GuessingRoom[rooms];
+        for (int r = 0; r < rooms; r++) {
+            all[r] = new GuessingRoom(MIN, MAX, root.nextLong(MIN, MAX + 1));
+        }
+
+        LongAdder wins = new LongAdder();
+        LongAdder lateCorrect = new LongAdder();
+
+        // 🧵 Player k plays on worker k % WORKERS; each worker takes turns between its players
+        int workers = Runtime.getRuntime().availableProcessors() * 2;
+        SplittableRandom[] generators = new SplittableRandom[workers];
+        for (int w = 0; w < workers; w++) {
+            generators[w] = root.split();
+        }
+        CountDownLatch go = new CountDownLatch(1);
+        Thread[] threads = new Thread[workers];
+        for (int w = 0; w < workers; w++) {
+            int worker = w;
+            threads[w] = new Thread(() -> {
+                try {
+                    go.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                playTurns(all, players, worker, workers, generators[worker], wins, lateCorrect);
+            });
+            threads[w].start();
+        }
+
+        long start = System.nanoTime();
+        go.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        printReport(all, players, wins.sum(), lateCorrect.sum(), seconds);
+    }
+
+    // 🤖 playTurns() – one worker's bots take turns: one random guess each inside what the hints still allow
+    static void playTurns(GuessingRoom[] rooms, int players, int worker, int workers, SplittableRandom random,
+                          LongAdder wins, LongAdder lateCorrect) {
+        int total = rooms.length * players;
+        int mine = (total - worker + workers - 1) / workers;
+        long[] low = new long[mine];
+        long[] high = new long[mine];
+        boolean[] done = new boolean[mine];
+        for (int i = 0; i < mine; i++) {
+            GuessingRoom room = rooms[(worker + i * workers) / players];
+            low[i] = room.min;
+            high[i] = room.max;
+        }
+
+        int playing = mine;
+        while (playing > 0) {
+            for (int i = 0; i < mine; i++) {
+                if (done[i]) {
+                    continue;
+                }
+                int player = worker + i * workers;
+                GuessingRoom room = rooms[player / players];
+                long guess = random.nextLong(low[i], high[i] + 1);
+                switch (room.guess(player % players, guess)) {
+                    case Main.TOO_LOW -> low[i] = guess + 1;
+                    case Main.TOO_HIGH -> high[i] = guess - 1;
+                    case GuessingRoom.WON -> {
+                        wins.increment();
+                        done[i] = true;
+                        playing--;
+                    }
+                    default -> {
+                        if (guess == room.secret()) {
+                            lateCorrect.increment(); // right number, but someone was faster
+                        }
+                        done[i] = true;
+                        playing--;
+                    }
+                }
+            }
+        }
+    }
+
+    // 🖨️ printReport() – speed and the exactly-one-winner check
+    static void printReport(GuessingRoom[] rooms, int players, long wins, long lateCorrect, double seconds) {
+        long attempts = 0;
+        int withWinner = 0;
+        for (GuessingRoom room : rooms) {
+            attempts += room.attempts();
+            if (room.winner() != GuessingRoom.NO_WINNER) {
+                withWinner++;
+            }
+        }
+
+        System.out.println("==============================================");
+        System.out.println("        🏠 MULTI-PLAYER GUESSING ROOMS");
+        System.out.println("==============================================");
+        System.out.printf("🏠 %,d rooms × %,d players, secrets in %,d .. %,d%n", rooms.length, players, MIN, MAX);
+        System.out.printf("👉 %,d guesses in %.2fs → %,.0f guesses/sec%n", attempts, seconds, attempts / seconds);
+        System.out.printf("⏱️ Correct but too late: %,d%n", lateCorrect);
+        System.out.printf("🏆 Rooms with a winner: %,d / %,d, WON answers: %,d%n", withWinner, rooms.length, wins);
+        System.out.println(withWinner == rooms.length && wins == rooms.length
+                ? "✅ Every room was won exactly once"
+                : "❌ Some room was won zero or several times!");
+        System.out.println("==============================================");
+    }
+}
@@ -0,0 +1,91 @@
+/*
+╔═══════════════════════════════════════╗
+║     🤖 SOLVER — THE PERFECT GUESSER    ║
+╚═══════════════════════════════════════╝
+
+🧠 IDEA: BINARY SEARCH
+--------------------------
+- Always guess the MIDDLE of the numbers that are still possible.
+- TOO LOW  → the secret is above the guess, throw away the lower half.
+- TOO HIGH → the secret is below the guess, throw away the upper half.
+- Every wrong guess at least halves what is left.
+
+📏 HOW MANY GUESSES?
+--------------------------
+- With n possible numbers the solver never needs more than
+      ⌈log2(n + 1)⌉  guesses      (1..100 → 7, 1..1,000,000 → 20)
+- This works for ANY long range, even Long.MIN_VALUE..Long.MAX_VALUE
+  (2^64 numbers → 65 guesses), because the middle is computed with
+  unsigned math and can never overflow.
+*/
+public class Solver {
+
+    // 🎯 middle() – overflow-safe middle of [low, high]
+    static long middle(long low, long high) {
+        return low + ((high - low) >>> 1);
+    }
+
+    // 📏 maxAttempts() – ⌈log2(n + 1)⌉ for the n numbers in [min, max]
+    static int maxAttempts(long min, long max) {
+        long count = max - min + 1; // unsigned; 0 means all 2^64 longs
+        return count == 0 ? 65 : 64 - Long.numberOfLeadingZeros(count);
+    }
+
+    // 🤖 solve() – number of guesses needed, or -1 if the hints ever contradict each other
+    static int solve(long min, long max, long secret) {
+        long low = min;
+        long high = max;
+        int attempts = 0;
+        while (true) {
+            long guess = middle(low, high);
+            attempts++;
+            switch (Main.hint(guess, secret)) {
+                case Main.CORRECT -> {
+                    return attempts;
+                }
+                case Main.TOO_LOW -> {
+                    if (guess == high) {
+                        return -1; // nothing left above the guess
+                    }
+                    low = guess + 1;
+                }
+                default -> {
+                    if (guess == low) {
+                        return -1; // nothing left below the guess
+                    }
+                    high = guess - 1;
+                }
+            }
+        }
+    }
+
+    // 🖥️ playOnce() – the solver plays one game out loud, like a player would
+    static void playOnce(long min, long max, long secret) {
+        System.out.println("🤖 The computer is playing the Number Guessing Game!");
+        System.out.printf("🔢 Secret number between %d and %d (at most %d guesses needed)\n", min, max, maxAttempts(min, max));
+
+        long low = min;
+        long high = max;
+        int attempts = 0;
+        int hint;
+        do {
+            long guess = middle(low, high);
+            attempts++;
+            hint = Main.hint(guess, secret);
+            System.out.print("👉 Guess #" + attempts + ": " + guess + " → ");
+            switch (hint) {
+                case Main.TOO_LOW -> {
+                    System.out.println("📉 TOO LOW!");
+                    low = guess + 1;
+                }
+                case Main.TOO_HIGH -> {
+                    System.out.println("📈 TOO HIGH!");
+                    high = guess - 1;
+                }
+                default -> System.out.println("🎉 CORRECT!");
+            }
+        } while (hint != Main.CORRECT);
+
+        System.out.println("📊 Total Attempts: " + attempts);
+    }
+}
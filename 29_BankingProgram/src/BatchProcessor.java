@@ -0,0 +1,280 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/*
+╔════════════════════════════════════════════════════════════╗
+║       📂 BATCH PROCESSOR — END-OF-DAY TRANSACTION FILES      ║
+╚════════════════════════════════════════════════════════════╝
+
+➤ Instead of typing one choice and one amount at a time, the whole day's
+  transactions are read from a text file, one per line:
+
+        deposit,alice,125.50
+        withdraw,bob,20
+        # lines starting with # are comments
+
+➤ Every line goes through the SAME rules as the menu (Ledger.validate()):
+    ❌ negative amounts are rejected
+    ❌ withdrawing more than the balance is rejected
+    ➖ a 0.00 amount is accepted but, like in the menu, never journaled
+  plus lines we cannot understand are counted as MALFORMED.
+
+➤ Why not Scanner?
+    Scanner uses regular expressions and creates Strings for every token.
+    Here we read big 1 MB blocks with a FileChannel and pick the bytes apart
+    ourselves, so tens of millions of lines go by in seconds.
+*/
+public class BatchProcessor {
+
+    static final int BLOCK_SIZE = 1024 * 1024;
+
+    // ⛔ Returned by parseCents() when the amount is not a valid number
+    static final long INVALID_AMOUNT = Long.MIN_VALUE;
+
+    // 📊 Counters collected while processing a file
+    static class Report {
+        long lines;
+        long accepted;
+        long negativeAmount;
+        long insufficientFunds;
+        long malformed;
+        long nanos;
+
+        long rejected() {
+            return negativeAmount + insufficientFunds + malformed;
+        }
+
+        void print() {
+            double seconds = nanos / 1_000_000_000.0;
+            System.out.println("===============================");
+            System.out.println("      📂 BATCH REPORT         ");
+            System.out.println("===============================");
+            System.out.printf("📄 Transactions read:    %,d%n", lines);
+            System.out.printf("✅ Accepted:             %,d%n", accepted);
+            System.out.printf("❌ Rejected:             %,d%n", rejected());
+            System.out.printf("   ➖ Negative amount:    %,d%n", negativeAmount);
+            System.out.printf("   🏧 Insufficient funds: %,d%n", insufficientFunds);
+            System.out.printf("   ❓ Malformed line:     %,d%n", malformed);
+            System.out.printf("⏱️ Time: %.2fs → %,.0f transactions/sec%n", seconds, lines / seconds);
+            System.out.println("===============================");
+        }
+    }
+
+    private final Ledger ledger;
+    private final Journal journal;
+    private final Report report = new Report();
+
+    BatchProcessor(Ledger ledger, Journal journal) {
+        this.ledger = ledger;
+        this.journal = journal;
+    }
+
+    // 🚀 run() – streams the whole file through the ledger and returns the counters
+    Report run(Path file) throws IOException {
+        long start = System.nanoTime();
+        byte[] block = new byte[BLOCK_SIZE];
+        ByteBuffer buffer = ByteBuffer.wrap(block);
+        int filled = 0; // bytes in block that have not been processed yet
+        boolean skipping = false; // true while throwing away the rest of a too-long line
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (true) {
+                buffer.position(filled);
+                int read = channel.read(buffer);
+                if (read < 0) {
+                    break;
+                }
+                filled = buffer.position();
+
+                // ✂️ Process every complete line in the block
+                int lineStart = 0;
+                for (int i = 0; i < filled; i++) {
+                    if (block[i] == '\n') {
+                        if (skipping) {
+                            skipping = false; // end of the too-long line: it was already counted
+                        } else {
+                            processLine(block, lineStart, i);
+                        }
+                        lineStart = i + 1;
+                    }
+                }
+
+                if (lineStart == 0 && filled == block.length) {
+                    // 🚫 A single line bigger than the whole block can't be a transaction:
+                    //    count it once, then skip everything up to its '\n'
+                    if (!skipping) {
+                        report.lines++;
+                        report.malformed++;
+                        skipping = true;
+                    }
+                    filled = 0;
+                    continue;
+                }
+
+                // ↩️ Move the unfinished last line to the front for the next read
+                System.arraycopy(block, lineStart, block, 0, filled - lineStart);
+                filled -= lineStart;
+            }
+        }
+
+        // 🧾 The file may not end with a newline
+        if (filled > 0 && !skipping) {
+            processLine(block, 0, filled);
+        }
+
+        journal.commit();
+        report.nanos = System.nanoTime() - start;
+        return report;
+    }
+
+    // 📝 processLine() – handles one "op,account,amount" line in block[start, end)
+    private void processLine(byte[] block, int start, int end) throws IOException {
+        if (end > start && block[end - 1] == '\r') {
+            end--; // Windows line ending
+        }
+        if (end == start || block[start] == '#') {
+            return; // blank line or comment
+        }
+        report.lines++;
+
+        // 🔍 Find the two commas
+        int firstComma = indexOf(block, start, end, (byte) ',');
+        int secondComma = firstComma < 0 ? -1 : indexOf(block, firstComma + 1, end, (byte) ',');
+        if (secondComma < 0 || secondComma == firstComma + 1) {
+            report.malformed++;
+            return;
+        }
+
+        byte op;
+        if (matches(block, start, firstComma, "deposit")) {
+            op = Journal.DEPOSIT;
+        } else if (matches(block, start, firstComma, "withdraw")) {
+            op = Journal.WITHDRAW;
+        } else {
+            report.malformed++;
+            return;
+        }
+
+        long cents = parseCents(block, secondComma + 1, end);
+        if (cents == INVALID_AMOUNT) {
+            report.malformed++;
+            return;
+        }
+
+        if (!isValidAccountId(block, firstComma + 1, secondComma)) {
+            report.malformed++;
+            return;
+        }
+
+        String accountId = new String(block, firstComma + 1, secondComma - firstComma - 1, StandardCharsets.US_ASCII);
+
+        // ✅ Check the Ledger's rules first, ✍️ log, then apply — the same order as the menu in Main.
+        //    (This works because the processor is the only one changing the ledger while it runs.)
+        switch (ledger.validate(op, accountId, cents)) {
+            case NEGATIVE_AMOUNT -> report.negativeAmount++;
+            case INSUFFICIENT_FUNDS -> report.insufficientFunds++;
+            case OK -> {
+                report.accepted++;
+                if (cents == 0) {
+                    return;   // nothing moves, so nothing is journaled (like the menu)
+                }
+                journal.append(op, accountId, cents);
+                if (op == Journal.DEPOSIT) {
+                    ledger.deposit(accountId, cents);
+                } else {
+                    ledger.withdraw(accountId, cents);   // just validated, so it can't be refused
+                }
+            }
+        }
+    }
+
+    // 💲 parseCents() – "12.345" → 1235 (third decimal rounds half-up), or INVALID_AMOUNT
+    static long parseCents(byte[] block, int start, int end) {
+        boolean negative = false;
+        if (start < end && block[start] == '-') {
+            negative = true;
+            start++;
+        }
+        if (start == end) {
+            return INVALID_AMOUNT;
+        }
+
+        long dollars = 0;
+        int i = start;
+        for (; i < end && block[i] != '.'; i++) {
+            int digit = block[i] - '0';
+            if (digit < 0 || digit > 9 || dollars > (Long.MAX_VALUE / 100 - 1 - digit) / 10) {
+                return INVALID_AMOUNT; // not a digit, or too big to fit in cents
+            }
+            dollars = dollars * 10 + digit;
+        }
+
+        long cents = 0;
+        int decimals = 0;
+        boolean roundUp = false;
+        if (i < end) {
+            i++; // skip the '.'
+            for (; i < end; i++) {
+                int digit = block[i] - '0';
+                if (digit < 0 || digit > 9) {
+                    return INVALID_AMOUNT;
+                }
+                if (decimals < 2) {
+                    cents = cents * 10 + digit;
+                } else if (decimals == 2) {
+                    roundUp = digit >= 5;
+                }
+                decimals++;
+            }
+        }
+        if (i == start + 1 && decimals == 0 && block[start] == '.') {
+            return INVALID_AMOUNT; // just a "." with no digits
+        }
+        if (decimals == 1) {
+            cents *= 10;
+        }
+
+        long total = dollars * 100 + cents + (roundUp ? 1 : 0);
+        return negative ? -total : total;
+    }
+
+    // 🪪 isValidAccountId() – short, plain-ASCII ids only, so they fit in a Journal record
+    private static boolean isValidAccountId(byte[] block, int start, int end) {
+        if (end - start > Journal.MAX_ID_LENGTH) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            if (block[i] < 0) {
+                return false; // bytes above 127 are negative in Java
+            }
+        }
+        return true;
+    }
+
+    // 🔎 indexOf() – position of `value` in block[start, end), or -1
+    private static int indexOf(byte[] block, int start, int end, byte value) {
+        for (int i = start; i < end; i++) {
+            if (block[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // 🔤 matches() – does block[start, end) spell `word` (ignoring upper/lower case)?
+    private static boolean matches(byte[] block, int start, int end, String word) {
+        if (end - start != word.length()) {
+            return false;
+        }
+        for (int i = 0; i < word.length(); i++) {
+            if ((block[start + i] | 0x20) != word.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,223 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/*
+╔════════════════════════════════════════════════════════════╗
+║        📒 JOURNAL — WRITE-AHEAD TRANSACTION LOG              ║
+╚════════════════════════════════════════════════════════════╝
+
+➤ Every accepted deposit / withdrawal is APPENDED to a file before the
+  balance changes. When the program starts again we REPLAY the file
+  and end up with exactly the same balances. Nothing is lost on exit.
+
+➤ Each record looks like this (14 bytes + account id):
+
+    ┌──────────┬────────┬───────────┬────────────┬──────────────┐
+    │ checksum │   op   │ id length │ account id │ amount cents │
+    │  4 bytes │ 1 byte │  1 byte   │  0-127 B   │   8 bytes    │
+    └──────────┴────────┴───────────┴────────────┴──────────────┘
+
+📌 Why is it fast?
+    - The file is MEMORY-MAPPED: appending is just copying bytes into RAM,
+      the operating system writes the pages to disk for us.
+    - GROUP COMMIT: we only force the pages to disk once every
+      `commitEvery` records (or when commit() is called), so one slow
+      disk flush is shared by a whole batch of transactions.
+
+📌 Why is it crash-safe?
+    - Every record carries a CRC32C checksum. If the program dies half-way
+      through writing a record, replay() stops at the first record that is
+      empty or has a bad checksum, and cuts the file back to the last good one.
+
+⚠️ A Journal has ONE writer: append()/commit() are synchronized so several
+   threads can share it, but they take turns.
+*/
+public class Journal implements AutoCloseable {
+
+    // 🏷️ Record types
+    static final byte DEPOSIT = 1;
+    static final byte WITHDRAW = 2;
+
+    // 📏 Record layout
+    static final int HEADER_SIZE = 6;      // checksum + op + id length
+    static final int MAX_ID_LENGTH = 127;
+    static final int MAX_RECORD_SIZE = HEADER_SIZE + MAX_ID_LENGTH + 8;
+
+    // 🗺️ How much of the file we map at a time
+    static final int CHUNK_SIZE = 64 * 1024 * 1024;
+
+    private final FileChannel channel;
+    private final int commitEvery;
+    private final CRC32C crc = new CRC32C();
+    private final byte[] scratch = new byte[MAX_RECORD_SIZE];
+
+    private MappedByteBuffer mapped; // the chunk we are currently appending into
+    private long writePosition;      // file position of the next record
+    private int uncommitted;         // records appended since the last force()
+
+    private Journal(FileChannel channel, int commitEvery) {
+        this.channel = channel;
+        this.commitEvery = commitEvery;
+    }
+
+    // 📂 open() – opens (or creates) a journal file; call replay() before appending
+    static Journal open(Path file, int commitEvery) throws IOException {
+        FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        return new Journal(channel, commitEvery);
+    }
+
+    /*
+    ╔════════════════════════════════════╗
+    ║         🔁 RECOVERY (REPLAY)        ║
+    ╚════════════════════════════════════╝
+    */
+
+    // 🔁 replay() – re-applies every valid record to the ledger, returns how many were replayed
+    long replay(Ledger ledger) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(1024 * 1024);
+        long position = 0;   // file position of buffer[0]
+        long validEnd = 0;   // file position just after the last good record
+        long records = 0;
+        boolean done = false;
+
+        channel.position(0);
+        while (!done) {
+            int read = channel.read(buffer);
+            buffer.flip();
+
+            while (true) {
+                if (buffer.remaining() < HEADER_SIZE) {
+                    break;
+                }
+                int start = buffer.position();
+                int checksum = buffer.getInt(start);
+                byte op = buffer.get(start + 4);
+                int idLength = buffer.get(start + 5);
+
+                if ((op != DEPOSIT && op != WITHDRAW) || idLength < 0) {
+                    done = true; // 🧹 empty space or garbage → end of the log
+                    break;
+                }
+                int size = HEADER_SIZE + idLength + 8;
+                if (buffer.remaining() < size) {
+                    break; // record continues in the next read
+                }
+
+                buffer.get(scratch, 0, size);
+                crc.reset();
+                crc.update(scratch, 4, size - 4);
+                if ((int) crc.getValue() != checksum) {
+                    done = true; // 💥 torn write from a crash
+                    break;
+                }
+
+                String accountId = new String(scratch, HEADER_SIZE, idLength, StandardCharsets.US_ASCII);
+                long cents = 0;
+                for (int i = HEADER_SIZE + idLength; i < size; i++) {
+                    cents = (cents << 8) | (scratch[i] & 0xFF);
+                }
+                ledger.restore(accountId, op == DEPOSIT ? cents : -cents);
+
+                records++;
+                validEnd = position + buffer.position();
+            }
+
+            if (read < 0) {
+                done = true;
+            }
+            position += buffer.position();
+            buffer.compact();
+        }
+
+        // ✂️ Drop everything after the last good record so it can never be replayed later
+        channel.truncate(validEnd);
+        writePosition = validEnd;
+        mapChunk();
+        return records;
+    }
+
+    /*
+    ╔════════════════════════════════════╗
+    ║           ✍️ APPENDING              ║
+    ╚════════════════════════════════════╝
+    */
+
+    // ➕ append() – writes one record; forces to disk automatically every `commitEvery` records
+    synchronized void append(byte op, String accountId, long cents) throws IOException {
+        int idLength = accountId.length();
+        if (idLength > MAX_ID_LENGTH) {
+            throw new IllegalArgumentException("Account id is longer than " + MAX_ID_LENGTH + " characters");
+        }
+
+        // 🧱 Build the record in the scratch array (no objects created)
+        scratch[4] = op;
+        scratch[5] = (byte) idLength;
+        for (int i = 0; i < idLength; i++) {
+            char c = accountId.charAt(i);
+            if (c > 127) {
+                throw new IllegalArgumentException("Account id must be ASCII: " + accountId);
+            }
+            scratch[HEADER_SIZE + i] = (byte) c;
+        }
+        int end = HEADER_SIZE + idLength;
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            scratch[end++] = (byte) (cents >>> shift);
+        }
+
+        crc.reset();
+        crc.update(scratch, 4, end - 4);
+        int checksum = (int) crc.getValue();
+        scratch[0] = (byte) (checksum >>> 24);
+        scratch[1] = (byte) (checksum >>> 16);
+        scratch[2] = (byte) (checksum >>> 8);
+        scratch[3] = (byte) checksum;
+
+        // 🗺️ Move to a fresh chunk if this one is full
+        if (mapped.remaining() < end) {
+            mapped.force();
+            mapChunk();
+        }
+        mapped.put(scratch, 0, end);
+        writePosition += end;
+
+        if (++uncommitted >= commitEvery) {
+            commit();
+        }
+    }
+
+    // 💾 commit() – makes every appended record durable on disk
+    synchronized void commit() {
+        if (uncommitted > 0) {
+            mapped.force();
+            uncommitted = 0;
+        }
+    }
+
+    // 📏 size() – bytes of journal written so far
+    synchronized long size() {
+        return writePosition;
+    }
+
+    // 🛑 close() – commit, then trim the unused mapped space off the end of the file
+    @Override
+    public synchronized void close() throws IOException {
+        if (mapped != null) {
+            commit();
+            mapped = null;
+            channel.truncate(writePosition);
+        }
+        channel.close();
+    }
+
+    // 🗺️ mapChunk() – maps the next CHUNK_SIZE bytes of the file starting at writePosition
+    private void mapChunk() throws IOException {
+        mapped = channel.map(FileChannel.MapMode.READ_WRITE, writePosition, CHUNK_SIZE);
+    }
+}
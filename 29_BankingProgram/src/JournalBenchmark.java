@@ -0,0 +1,146 @@
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/*
+╔════════════════════════════════════════════════════════════╗
+║     ⏱️ JOURNAL BENCHMARK + 💥 CRASH RECOVERY CHECKS          ║
+╚════════════════════════════════════════════════════════════╝
+
+➤ Part 1 — THROUGHPUT
+    Appends millions of deposit/withdraw records with group commit
+    and reports journaled transactions per second.
+
+➤ Part 2 — RECOVERY
+    Simulates the ways a program can die and checks that replay()
+    always rebuilds exactly the balances that were committed:
+        ✔ clean close
+        ✔ "crash" without close (mapped tail is still empty zeros)
+        ✔ torn last record (only half of it reached the disk)
+        ✔ random garbage after the last good record
+
+➤ Run:
+    java JournalBenchmark [transactions] [commitEvery]
+*/
+public class JournalBenchmark {
+
+    public static void main(String[] args) throws IOException {
+
+        int transactions = args.length > 0 ? Integer.parseInt(args[0]) : 5_000_000;
+        int commitEvery = args.length > 1 ? Integer.parseInt(args[1]) : 10_000;
+
+        System.out.println("===============================");
+        System.out.println("   ⏱️ JOURNAL BENCHMARK");
+        System.out.println("===============================");
+
+        Path dir = Files.createTempDirectory("journal-bench");
+        try {
+            throughput(dir.resolve("throughput.journal"), transactions, commitEvery);
+            recoveryChecks(dir);
+        } finally {
+            try (var files = Files.list(dir)) {
+                for (Path file : (Iterable<Path>) files::iterator) {
+                    Files.deleteIfExists(file);
+                }
+            }
+            Files.deleteIfExists(dir);
+        }
+    }
+
+    // 🚀 throughput() – append + replay speed
+    static void throughput(Path file, int transactions, int commitEvery) throws IOException {
+        String[] accounts = new String[1024];
+        for (int i = 0; i < accounts.length; i++) {
+            accounts[i] = "account-" + i;
+        }
+
+        long start = System.nanoTime();
+        try (Journal journal = Journal.open(file, commitEvery)) {
+            journal.replay(new Ledger());
+            for (int i = 0; i < transactions; i++) {
+                byte op = (i & 1) == 0 ? Journal.DEPOSIT : Journal.WITHDRAW;
+                journal.append(op, accounts[i & (accounts.length - 1)], 1234);
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        System.out.printf("✍️ Appended %,d transactions in %.2fs → %,.0f tx/sec (commit every %,d)%n",
+                transactions, seconds, transactions / seconds, commitEvery);
+
+        start = System.nanoTime();
+        long replayed;
+        try (Journal journal = Journal.open(file, commitEvery)) {
+            replayed = journal.replay(new Ledger());
+        }
+        seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        System.out.printf("🔁 Replayed %,d transactions in %.2fs → %,.0f tx/sec%n",
+                replayed, seconds, replayed / seconds);
+    }
+
+    // 💥 recoveryChecks() – every scenario must recover to the committed balances
+    static void recoveryChecks(Path dir) throws IOException {
+        System.out.println("-------------------------------");
+
+        // ✔ Clean close
+        Path clean = dir.resolve("clean.journal");
+        try (Journal journal = Journal.open(clean, 1)) {
+            journal.replay(new Ledger());
+            writeSample(journal);
+        }
+        check("clean close", clean, 3, 5_000);
+
+        // ✔ Crash without close — the journal object is simply abandoned
+        Path crashed = dir.resolve("crashed.journal");
+        Journal abandoned = Journal.open(crashed, 1);
+        abandoned.replay(new Ledger());
+        writeSample(abandoned);
+        check("crash without close", crashed, 3, 5_000);
+
+        // ✔ Torn last record: chop a few bytes off the end of a clean file
+        Path torn = dir.resolve("torn.journal");
+        Files.copy(clean, torn);
+        try (RandomAccessFile raf = new RandomAccessFile(torn.toFile(), "rw")) {
+            raf.setLength(raf.length() - 5);
+        }
+        check("torn last record", torn, 2, 7_500);
+
+        // ✔ Garbage after the last good record
+        Path garbage = dir.resolve("garbage.journal");
+        Files.copy(clean, garbage);
+        try (RandomAccessFile raf = new RandomAccessFile(garbage.toFile(), "rw")) {
+            raf.seek(raf.length());
+            raf.write(new byte[]{9, 9, 9, 9, Journal.DEPOSIT, 4, 'm', 'a', 'i', 'n', 0, 0, 0, 0, 0, 0, 1, 0}); // bad checksum
+        }
+        check("garbage tail", garbage, 3, 5_000);
+
+        // ✔ After recovery the journal can keep appending normally
+        try (Journal journal = Journal.open(torn, 1)) {
+            journal.replay(new Ledger());
+            journal.append(Journal.DEPOSIT, "main", 1);
+        }
+        check("append after torn recovery", torn, 3, 7_501);
+    }
+
+    // 🧾 writeSample() – +$100.00, -$25.00, -$25.00 → $50.00
+    static void writeSample(Journal journal) throws IOException {
+        journal.append(Journal.DEPOSIT, "main", 10_000);
+        journal.append(Journal.WITHDRAW, "main", 2_500);
+        journal.append(Journal.WITHDRAW, "main", 2_500);
+    }
+
+    // ✅ check() – replay a file and compare against the expected record count and balance
+    static void check(String name, Path file, long expectedRecords, long expectedCents) throws IOException {
+        Ledger ledger = new Ledger();
+        long records;
+        try (Journal journal = Journal.open(file, 1)) {
+            records = journal.replay(ledger);
+        }
+        long cents = ledger.balance("main");
+        boolean ok = records == expectedRecords && cents == expectedCents;
+        System.out.printf("%s %-28s records=%d balance=$%s%n",
+                ok ? "✅" : "❌", name, records, Money.toString(cents));
+        if (!ok) {
+            throw new IllegalStateException("Recovery check failed: " + name);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+╔════════════════════════════════════════════════════════════╗
+║          🏦 LEDGER — MULTI-ACCOUNT BANKING ENGINE           ║
+╚════════════════════════════════════════════════════════════╝
+
+➤ Main.java tracks ONE balance for ONE user on ONE thread.
+➤ The Ledger tracks MANY accounts, each keyed by an account id,
+  and lets MANY threads deposit / withdraw at the same time.
+
+📌 How it stays fast AND correct:
+    - Every account is its own AtomicLong holding whole CENTS
+      (no double drift, and a long fits in one CPU register).
+    - Deposits and withdrawals use compare-and-set (CAS) loops,
+      so no locks are taken — threads only ever "collide" when they
+      hit the SAME account. Different accounts never slow each other down.
+    - Accounts live in a ConcurrentHashMap, so looking one up or
+      opening a new one is safe from any thread.
+
+📌 The rules live in ONE place, check(), and everyone asks it:
+   deposit() / withdraw() here, Main.deposit() / Main.withdraw() and the
+   BatchProcessor — so the menu, the batch and the ledger can't drift apart.
+    ❌ Amount cannot be negative
+    ❌ Withdrawing more than the balance → INSUFFICIENT FUNDS
+*/
+public class Ledger {
+
+    // 📋 Outcome of a transaction (instead of printing, so threads stay quiet)
+    enum Result {
+        OK,
+        NEGATIVE_AMOUNT,
+        INSUFFICIENT_FUNDS
+    }
+
+    // 🗂️ accountId → balance in cents
+    private final ConcurrentHashMap<String, AtomicLong> accounts = new ConcurrentHashMap<>();
+
+    // 🔍 Find an account, opening it with $0.00 the first time it is used
+    private AtomicLong account(String accountId) {
+        AtomicLong balance = accounts.get(accountId); // fast path: no lambda, no lock
+        if (balance == null) {
+            balance = accounts.computeIfAbsent(accountId, id -> new AtomicLong());
+        }
+        return balance;
+    }
+
+    // ✅ check() – the banking rules: may `op` (Journal.DEPOSIT / WITHDRAW) move `cents` given this balance?
+    static Result check(byte op, long cents, long balance) {
+        if (cents < 0) {
+            return Result.NEGATIVE_AMOUNT;
+        }
+        if (op == Journal.WITHDRAW && cents > balance) {
+            return Result.INSUFFICIENT_FUNDS;
+        }
+        return Result.OK;
+    }
+
+    // ✅ validate() – check() against an account's current balance, without changing it
+    Result validate(byte op, String accountId, long cents) {
+        return check(op, cents, balance(accountId));
+    }
+
+    // 💸 deposit() – adds cents to an account
+    Result deposit(String accountId, long cents) {
+        Result result = check(Journal.DEPOSIT, cents, 0);
+        if (result != Result.OK) {
+            return result;
+        }
+        account(accountId).addAndGet(cents); // a single atomic add, never fails
+        return Result.OK;
+    }
+
+    // 🏧 withdraw() – takes cents out of an account if there is enough money
+    Result withdraw(String accountId, long cents) {
+        if (cents < 0) {
+            return Result.NEGATIVE_AMOUNT;   // no need to open the account for that
+        }
+
+        AtomicLong balance = account(accountId);
+
+        // 🔁 CAS loop: read → check → try to swap; retry if another thread got there first
+        while (true) {
+            long current = balance.get();
+            Result result = check(Journal.WITHDRAW, cents, current);
+            if (result != Result.OK) {
+                return result;
+            }
+            if (balance.compareAndSet(current, current - cents)) {
+                return Result.OK;
+            }
+        }
+    }
+
+    // ♻️ restore() – applies an already-validated change while replaying the Journal (no rule checks)
+    void restore(String accountId, long deltaCents) {
+        account(accountId).addAndGet(deltaCents);
+    }
+
+    // 💲 balance() – current balance of an account in cents (0 if it was never opened)
+    long balance(String accountId) {
+        AtomicLong balance = accounts.get(accountId);
+        return balance == null ? 0 : balance.get();
+    }
+
+    // 🔢 accountCount() – how many accounts have been opened
+    int accountCount() {
+        return accounts.size();
+    }
+}
@@ -0,0 +1,111 @@
+import java.util.concurrent.CountDownLatch;
+
+/*
+╔════════════════════════════════════════════════════════════╗
+║        ⏱️ LEDGER BENCHMARK — CONTENDED vs UNCONTENDED        ║
+╚════════════════════════════════════════════════════════════╝
+
+➤ A small JMH-style throughput test for Ledger.java:
+    - a few WARMUP rounds so the JIT compiles the hot code first
+    - then MEASURED rounds, each running for a fixed amount of time
+    - we report operations per second (ops/sec)
+
+➤ Two scenarios:
+    🔥 CONTENDED   → every thread hammers the SAME account
+    🧊 UNCONTENDED → every thread gets its OWN account
+
+➤ Run:
+    java LedgerBenchmark [threads] [secondsPerRound]
+*/
+public class LedgerBenchmark {
+
+    static final int WARMUP_ROUNDS = 2;
+    static final int MEASURED_ROUNDS = 5;
+
+    // 🛑 Flipped by the main thread to stop all workers at the end of a round
+    static volatile boolean running;
+
+    public static void main(String[] args) throws InterruptedException {
+
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+        double seconds = args.length > 1 ? Double.parseDouble(args[1]) : 1.0;
+
+        System.out.println("===============================");
+        System.out.println("   ⏱️ LEDGER BENCHMARK");
+        System.out.println("===============================");
+        System.out.println("🧵 Threads: " + threads);
+        System.out.println("⏳ Round length: " + seconds + "s");
+
+        for (int t = 1; t <= threads; t *= 2) {
+            double contended = measure(t, seconds, true);
+            double uncontended = measure(t, seconds, false);
+            System.out.printf("🧵 %3d threads | 🔥 contended: %,15.0f ops/sec | 🧊 uncontended: %,15.0f ops/sec%n",
+                    t, contended, uncontended);
+        }
+    }
+
+    // 📐 measure() – warm up, then return the average ops/sec over the measured rounds
+    static double measure(int threads, double seconds, boolean contended) throws InterruptedException {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            runRound(threads, seconds, contended);
+        }
+
+        double total = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            total += runRound(threads, seconds, contended);
+        }
+        return total / MEASURED_ROUNDS;
+    }
+
+    // 🏁 runRound() – run all threads for a fixed time on a fresh ledger, return ops/sec
+    static double runRound(int threads, double seconds, boolean contended) throws InterruptedException {
+        Ledger ledger = new Ledger();
+        long[] opsPerThread = new long[threads * 16]; // spaced out so counters don't share a cache line
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+
+        for (int t = 0; t < threads; t++) {
+            final int slot = t * 16;
+            final String accountId = contended ? "shared" : "account-" + t;
+
+            workers[t] = new Thread(() -> {
+                ledger.deposit(accountId, 0); // open the account before the clock starts
+                ready.countDown();
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+
+                long ops = 0;
+                while (running) {
+                    // 💸 one deposit + one withdrawal = 2 operations
+                    ledger.deposit(accountId, 100);
+                    ledger.withdraw(accountId, 100);
+                    ops += 2;
+                }
+                opsPerThread[slot] = ops;
+            });
+            workers[t].start();
+        }
+
+        ready.await();
+        running = true;
+        long begin = System.nanoTime();
+        start.countDown();
+        Thread.sleep((long) (seconds * 1000));
+        running = false;
+
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        long elapsed = System.nanoTime() - begin;
+
+        long ops = 0;
+        for (int t = 0; t < threads; t++) {
+            ops += opsPerThread[t * 16];
+        }
+        return ops / (elapsed / 1_000_000_000.0);
+    }
+}
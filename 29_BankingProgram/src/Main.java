@@ -1,3 +1,6 @@
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.Scanner;
 
 public class Main {
@@ -5,12 +8,35 @@ public class Main {
     // 🔁 Global Scanner Object (used by all methods)
     static Scanner scanner = new Scanner(System.in);
 
-    public static void main(String[] args) {
+    // 🖨️ Reusable output buffer + pre-encoded labels, so printing money never allocates
+    static final byte[] outBuffer = new byte[256];
+    static final byte[] NEW_BALANCE_LABEL = "💰 New Balance: $".getBytes(StandardCharsets.UTF_8);
+    static final byte[] BALANCE_LABEL = "💲 $".getBytes(StandardCharsets.UTF_8);
+
+    // 📒 Every transaction is written here so the balance survives restarts (see Journal.java)
+    static final Path JOURNAL_FILE = Path.of("bank.journal");
+    static final String ACCOUNT_ID = "main";
+
+    public static void main(String[] args) throws IOException {
 
         // 🏦 JAVA BANKING PROGRAM FOR BEGINNERS 🏦
 
-        // 💰 Declare balance variable to track user's funds
-        double balance = 0;
+        // 📂 Batch mode: java Main --batch transactions.csv  (no menu, no typing)
+        if (args.length == 2 && args[0].equals("--batch")) {
+            runBatch(Path.of(args[1]));
+            return;
+        }
+
+        // 📒 Open the journal and replay it to recover the balance from last time
+        Ledger ledger = new Ledger();
+        Journal journal = Journal.open(JOURNAL_FILE, 1); // commit every transaction to disk
+        long restored = journal.replay(ledger);
+        if (restored > 0) {
+            System.out.println("📒 Restored " + restored + " transactions from " + JOURNAL_FILE);
+        }
+
+        // 💰 Declare balance variable to track user's funds (in whole cents, see Money.java)
+        long balance = ledger.balance(ACCOUNT_ID);
 
         // 🧭 Flag to keep the app running
         boolean isRunning = true;
@@ -47,20 +73,26 @@ public class Main {
 
                 case 2 -> {
                     // ➕ Deposit amount to balance
-                    double amount = deposit();
+                    long amount = deposit();
+                    if (amount > 0) {
+                        journal.append(Journal.DEPOSIT, ACCOUNT_ID, amount); // ✍️ log first, then apply
+                    }
                     balance += amount;
                     System.out.println("✅ Deposit successful!");
                     System.out.println("===============================\n");
-                    System.out.printf("💰 New Balance: $%.2f\n", balance);
+                    printMoney(NEW_BALANCE_LABEL, balance);
                 }
 
                 case 3 -> {
                     // ➖ Withdraw amount from balance
-                    double amount = withdraw(balance);
+                    long amount = withdraw(balance);
+                    if (amount > 0) {
+                        journal.append(Journal.WITHDRAW, ACCOUNT_ID, amount); // ✍️ log first, then apply
+                    }
                     balance -= amount;
                     System.out.println("✅ Withdrawal processed!");
                     System.out.println("===============================\n");
-                    System.out.printf("💰 New Balance: $%.2f\n", balance);
+                    printMoney(NEW_BALANCE_LABEL, balance);
                 }
 
                 case 4 -> {
@@ -81,43 +113,60 @@ public class Main {
         System.out.println("✅ Thank you! Have a great day!");
         System.out.println("===============================");
 
-        // 🧼 Close scanner to free memory
+        // 🧼 Close scanner to free memory, and the journal so everything is on disk
         scanner.close();
+        journal.close();
+    }
+
+    // 📂 runBatch() – streams a transaction file through the ledger and prints a report
+    static void runBatch(Path file) throws IOException {
+        Ledger ledger = new Ledger();
+        try (Journal journal = Journal.open(JOURNAL_FILE, 10_000)) { // group commit every 10,000 records
+            journal.replay(ledger);
+            BatchProcessor processor = new BatchProcessor(ledger, journal);
+            processor.run(file).print();
+        }
     }
 
     // 📦 showBalance() – displays current balance
-    static void showBalance(double balance) {
+    static void showBalance(long balance) {
         System.out.println("-------------------------------");
-        System.out.printf("💲 $%.2f\n", balance);
+        printMoney(BALANCE_LABEL, balance);
         System.out.println("-------------------------------");
     }
 
-    // 💸 deposit() – asks user for deposit amount and validates input
-    static double deposit() {
-        System.out.print("💵 Enter amount to deposit: ");
-        double amount = scanner.nextDouble();
+    // 🖨️ printMoney() – prints label + cents as "1234.56" without building any Strings
+    static void printMoney(byte[] label, long cents) {
+        System.arraycopy(label, 0, outBuffer, 0, label.length);
+        int length = Money.format(cents, outBuffer, label.length);
+        outBuffer[length++] = '\n';
+        System.out.write(outBuffer, 0, length);
+        System.out.flush();
+    }
 
-        if (amount < 0) {
-            System.out.println("❌ Amount cannot be negative!");
-            return 0;
-        } else {
-            return amount;
-        }
+    // 💸 deposit() – asks user for deposit amount, validates it and returns it in cents
+    static long deposit() {
+        System.out.print("💵 Enter amount to deposit: ");
+        long amount = Money.toCents(scanner.nextDouble());
+        return checked(Ledger.check(Journal.DEPOSIT, amount, 0), amount);
     }
 
-    // 🏧 withdraw() – asks user for withdrawal amount and checks balance
-    static double withdraw(double balance) {
+    // 🏧 withdraw() – asks user for withdrawal amount, checks balance and returns it in cents
+    static long withdraw(long balance) {
         System.out.print("🏧 Enter amount to withdraw: ");
-        double amount = scanner.nextDouble();
-
-        if (amount > balance) {
-            System.out.println("❌ INSUFFICIENT FUNDS!");
-            return 0;
-        } else if (amount < 0) {
-            System.out.println("❌ Amount cannot be negative!");
-            return 0;
-        } else {
-            return amount;
+        long amount = Money.toCents(scanner.nextDouble());
+        return checked(Ledger.check(Journal.WITHDRAW, amount, balance), amount);
+    }
+
+    // 🚦 checked() – the amount if the Ledger's rules allow it, otherwise the reason and 0
+    static long checked(Ledger.Result result, long amount) {
+        switch (result) {
+            case NEGATIVE_AMOUNT -> System.out.println("❌ Amount cannot be negative!");
+            case INSUFFICIENT_FUNDS -> System.out.println("❌ INSUFFICIENT FUNDS!");
+            case OK -> {
+                return amount;
+            }
         }
+        return 0;
     }
 }
@@ -0,0 +1,73 @@
+import java.nio.charset.StandardCharsets;
+
+/*
+╔════════════════════════════════════════════════════════════╗
+║            💵 MONEY — FIXED-POINT LONG CENTS HELPERS         ║
+╚════════════════════════════════════════════════════════════╝
+
+➤ Why not just use double?
+    - 0.10 + 0.20 is NOT exactly 0.30 as a double → balances slowly drift 😬
+    - printf("%.2f") builds a Formatter, boxes the double and creates Strings
+      every single time it runs.
+
+➤ Instead we store money as a plain long number of CENTS:
+    $12.34  →  1234
+    - + and - are exact
+    - no objects are created to do math on it
+
+➤ format() writes the "$%.2f"-style digits straight into a byte[] that the
+  caller reuses, so printing a balance does not allocate anything either.
+*/
+public class Money {
+
+    // 📏 Longest possible output: "-" + 17 dollar digits + "." + 2 cent digits
+    static final int MAX_LENGTH = 21;
+
+    // 🔄 toCents() – converts a typed-in dollar amount (e.g. 12.345) into cents (1235)
+    static long toCents(double dollars) {
+        return Math.round(dollars * 100);
+    }
+
+    // 🖨️ format() – writes cents as "1234.56" into buf starting at pos, returns the new end position
+    static int format(long cents, byte[] buf, int pos) {
+        if (cents < 0) {
+            buf[pos++] = '-';
+            if (cents == Long.MIN_VALUE) {
+                // ⚠️ -MIN_VALUE overflows, so peel off the last digit first
+                return formatPositive(-(cents / 10), (int) -(cents % 10), buf, pos);
+            }
+            cents = -cents;
+        }
+        return formatPositive(cents / 10, (int) (cents % 10), buf, pos);
+    }
+
+    // 🧮 Writes (tens * 10 + lastDigit) cents, where tens >= 0
+    private static int formatPositive(long tens, int lastDigit, byte[] buf, int pos) {
+        long dollars = tens / 10;
+        int firstCentDigit = (int) (tens % 10);
+
+        // 🔢 Count dollar digits so we can fill them in from right to left
+        int digits = 1;
+        for (long d = dollars; d >= 10; d /= 10) {
+            digits++;
+        }
+
+        int end = pos + digits;
+        for (int i = end - 1; i >= pos; i--) {
+            buf[i] = (byte) ('0' + dollars % 10);
+            dollars /= 10;
+        }
+
+        buf[end++] = '.';
+        buf[end++] = (byte) ('0' + firstCentDigit);
+        buf[end++] = (byte) ('0' + lastDigit);
+        return end;
+    }
+
+    // 🧾 toString() – convenience version for places where a String is fine
+    static String toString(long cents) {
+        byte[] buf = new byte[MAX_LENGTH];
+        int length = format(cents, buf, 0);
+        return new String(buf, 0, length, StandardCharsets.US_ASCII);
+    }
+}
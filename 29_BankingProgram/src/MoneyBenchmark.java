@@ -0,0 +1,118 @@
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+
+/*
+╔════════════════════════════════════════════════════════════╗
+║      ⏱️ MONEY BENCHMARK — double + printf vs long cents      ║
+╚════════════════════════════════════════════════════════════╝
+
+➤ Simulates one transaction the way Main.java handles it:
+    update the balance, then print "💰 New Balance: $..."
+
+    🐢 OLD: double balance  +  printf("$%.2f")
+    🚀 NEW: long cents      +  Money.format() into a reused byte[]
+
+➤ Output goes to a "black hole" stream so we time the work, not the console.
+➤ We report ops/sec and bytes allocated per transaction
+  (measured with the JVM's per-thread allocation counter).
+
+➤ Run:
+    java MoneyBenchmark [transactions]
+*/
+public class MoneyBenchmark {
+
+    static final int WARMUP_ROUNDS = 3;
+    static final int MEASURED_ROUNDS = 5;
+
+    // 🕳️ Throws away everything written to it
+    static final PrintStream blackHole = new PrintStream(new OutputStream() {
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    });
+
+    static final byte[] outBuffer = new byte[256];
+
+    // 🔒 Keeps the JIT from deleting the loops as "unused"
+    static volatile long sink;
+
+    public static void main(String[] args) {
+
+        int transactions = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+
+        System.out.println("===============================");
+        System.out.println("   ⏱️ MONEY BENCHMARK");
+        System.out.println("===============================");
+        System.out.println("🔁 Transactions per round: " + transactions);
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            runDouble(transactions);
+            runCents(transactions);
+        }
+
+        report("🐢 double + printf", transactions, true);
+        report("🚀 long cents     ", transactions, false);
+    }
+
+    // 📊 report() – run the measured rounds and print ops/sec + bytes per transaction
+    static void report(String name, int transactions, boolean useDouble) {
+        long bestNanos = Long.MAX_VALUE;
+        long allocated = 0;
+
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long bytesBefore = allocatedBytes();
+            long start = System.nanoTime();
+
+            if (useDouble) {
+                runDouble(transactions);
+            } else {
+                runCents(transactions);
+            }
+
+            long elapsed = System.nanoTime() - start;
+            allocated += allocatedBytes() - bytesBefore;
+            bestNanos = Math.min(bestNanos, elapsed);
+        }
+
+        double opsPerSec = transactions / (bestNanos / 1_000_000_000.0);
+        double bytesPerOp = (double) allocated / ((long) transactions * MEASURED_ROUNDS);
+        System.out.printf("%s | %,14.0f ops/sec | %8.1f bytes/transaction%n", name, opsPerSec, bytesPerOp);
+    }
+
+    // 🐢 The original Main.java path
+    static void runDouble(int transactions) {
+        double balance = 0;
+        for (int i = 0; i < transactions; i++) {
+            double amount = (i & 1) == 0 ? 12.34 : -5.67;
+            balance += amount;
+            blackHole.printf("💰 New Balance: $%.2f\n", balance);
+        }
+        sink = (long) balance;
+    }
+
+    // 🚀 The long-cents path used by Main.java now
+    static void runCents(int transactions) {
+        long balance = 0;
+        for (int i = 0; i < transactions; i++) {
+            long amount = (i & 1) == 0 ? 1234 : -567;
+            balance += amount;
+            System.arraycopy(Main.NEW_BALANCE_LABEL, 0, outBuffer, 0, Main.NEW_BALANCE_LABEL.length);
+            int length = Money.format(balance, outBuffer, Main.NEW_BALANCE_LABEL.length);
+            outBuffer[length++] = '\n';
+            blackHole.write(outBuffer, 0, length);
+        }
+        sink = balance;
+    }
+
+    // 📏 allocatedBytes() – total bytes this thread has allocated so far (HotSpot-specific)
+    static long allocatedBytes() {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
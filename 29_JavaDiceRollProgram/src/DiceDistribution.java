@@ -0,0 +1,190 @@
+/*
+╔════════════════════════════════════════════════════════════╗
+║    📊 DICE DISTRIBUTION — EXACT ODDS OF EVERY POSSIBLE SUM   ║
+╚════════════════════════════════════════════════════════════╝
+
+➤ One die is the polynomial  (x¹ + x² + x³ + x⁴ + x⁵ + x⁶) / 6
+  The coefficient of xᵏ is the chance of rolling k.
+
+➤ Rolling N dice = multiplying that polynomial by itself N times.
+  The coefficient of xˢ in the result is the chance that the total is s.
+
+📌 Making it fast:
+    - Exponentiation by squaring: N multiplications become about log₂(N)
+      (d, d², d⁴, d⁸, ... and multiply together the ones we need).
+    - Multiplying two long polynomials directly costs n × m steps.
+      Once they get long we use the FFT (Fast Fourier Transform), which
+      costs about n·log(n) steps instead.
+
+📌 We store probabilities (not giant whole-number counts), so the results
+   are doubles. The FFT adds round-off of about 1e-16 × the biggest
+   probability to EVERY value, so the far tails (sums that are even less
+   likely than that) come out as tiny noise around 0, not as their true
+   values. Noise that dips below 0 is clipped to 0.
+*/
+public class DiceDistribution {
+
+    // 📏 Below this size, direct multiplication beats the FFT
+    static final int DIRECT_LIMIT = 64;
+
+    // 📊 probabilities() – p[k] = chance that N dice add up to N + k  (k = 0 … 5N)
+    static double[] probabilities(int dice) {
+        double[] die = {1 / 6.0, 1 / 6.0, 1 / 6.0, 1 / 6.0, 1 / 6.0, 1 / 6.0};
+        double[] result = {1.0};
+        double[] power = die;
+
+        // 🔁 Exponentiation by squaring
+        int n = dice;
+        while (n > 0) {
+            if ((n & 1) == 1) {
+                result = multiply(result, power);
+            }
+            n >>= 1;
+            if (n > 0) {
+                power = multiply(power, power);
+            }
+        }
+        return result;
+    }
+
+    // ✖️ multiply() – polynomial product, direct or FFT depending on size
+    static double[] multiply(double[] a, double[] b) {
+        if (Math.min(a.length, b.length) <= DIRECT_LIMIT) {
+            return multiplyDirect(a, b);
+        }
+        return multiplyFft(a, b);
+    }
+
+    static double[] multiplyDirect(double[] a, double[] b) {
+        double[] product = new double[a.length + b.length - 1];
+        for (int i = 0; i < a.length; i++) {
+            for (int j = 0; j < b.length; j++) {
+                product[i + j] += a[i] * b[j];
+            }
+        }
+        return product;
+    }
+
+    static double[] multiplyFft(double[] a, double[] b) {
+        int length = a.length + b.length - 1;
+        int size = Integer.highestOneBit(length - 1) << 1;
+
+        // 🧮 Put a in the real part and b in the imaginary part: one forward FFT for both
+        double[] re = new double[size];
+        double[] im = new double[size];
+        System.arraycopy(a, 0, re, 0, a.length);
+        System.arraycopy(b, 0, im, 0, b.length);
+        fft(re, im, false);
+
+        // ✳️ A(k)·B(k) recovered from Z(k) = A(k) + i·B(k):
+        //    A(k)·B(k) = (Z(k)² − conj(Z(n−k))²) / 4i
+        double[] productRe = new double[size];
+        double[] productIm = new double[size];
+        for (int k = 0; k < size; k++) {
+            int j = (size - k) & (size - 1);
+            double zRe = re[k], zIm = im[k];
+            double wRe = re[j], wIm = -im[j]; // conj(Z(n−k))
+            double squareRe = zRe * zRe - zIm * zIm - (wRe * wRe - wIm * wIm);
+            double squareIm = 2 * zRe * zIm - 2 * wRe * wIm;
+            productRe[k] = squareIm / 4;   // dividing by 4i
+            productIm[k] = -squareRe / 4;
+        }
+        fft(productRe, productIm, true);
+
+        double[] product = new double[length];
+        for (int i = 0; i < length; i++) {
+            product[i] = Math.max(0, productRe[i]); // 🧹 round-off can make tiny values slightly negative
+        }
+        return product;
+    }
+
+    // 🌀 fft() – in-place iterative radix-2 FFT (inverse also divides by n)
+    static void fft(double[] re, double[] im, boolean inverse) {
+        int n = re.length;
+
+        // 🔀 Bit-reversal reordering
+        for (int i = 1, j = 0; i < n; i++) {
+            int bit = n >> 1;
+            for (; (j & bit) != 0; bit >>= 1) {
+                j ^= bit;
+            }
+            j ^= bit;
+            if (i < j) {
+                double t = re[i]; re[i] = re[j]; re[j] = t;
+                t = im[i]; im[i] = im[j]; im[j] = t;
+            }
+        }
+
+        // 📐 Twiddle factors computed once: w[k] = e^(∓2πik/n)
+        int half = n >> 1;
+        double[] wRe = new double[half];
+        double[] wIm = new double[half];
+        for (int k = 0; k < half; k++) {
+            double angle = (inverse ? 2 : -2) * Math.PI * k / n;
+            wRe[k] = Math.cos(angle);
+            wIm[k] = Math.sin(angle);
+        }
+
+        // 🦋 Butterflies (each block walks memory in order, which keeps the CPU cache happy)
+        for (int length = 2; length <= n; length <<= 1) {
+            int blockHalf = length >> 1;
+            int step = n / length;
+            for (int start = 0; start < n; start += length) {
+                for (int k = 0; k < blockHalf; k++) {
+                    int i = start + k;
+                    int j = i + blockHalf;
+                    double cRe = wRe[k * step];
+                    double cIm = wIm[k * step];
+                    double tRe = re[j] * cRe - im[j] * cIm;
+                    double tIm = re[j] * cIm + im[j] * cRe;
+                    re[j] = re[i] - tRe;
+                    im[j] = im[i] - tIm;
+                    re[i] += tRe;
+                    im[i] += tIm;
+                }
+            }
+        }
+
+        if (inverse) {
+            for (int i = 0; i < n; i++) {
+                re[i] /= n;
+                im[i] /= n;
+            }
+        }
+    }
+
+    // 🖨️ printSummary() – most likely total, percentiles, and the full table for small N
+    static void printSummary(int dice, double[] p) {
+        int mostLikely = 0;
+        double total = 0;
+        for (int k = 0; k < p.length; k++) {
+            total += p[k];
+            if (p[k] > p[mostLikely]) {
+                mostLikely = k;
+            }
+        }
+
+        System.out.println("🎲 Exact distribution of the sum of " + dice + " dice");
+        System.out.printf("📐 Mean: %.2f   Variance: %.4f%n", 3.5 * dice, 35.0 / 12 * dice);
+        System.out.printf("🏆 Most likely total: %d (%.8f)%n", dice + mostLikely, p[mostLikely]);
+
+        double[] percentiles = {0.01, 0.25, 0.50, 0.75, 0.99};
+        double running = 0;
+        int next = 0;
+        for (int k = 0; k < p.length && next < percentiles.length; k++) {
+            running += p[k];
+            while (next < percentiles.length && running >= percentiles[next] * total) {
+                System.out.printf("📊 %2.0f%% of rolls total %d or less%n", percentiles[next] * 100, dice + k);
+                next++;
+            }
+        }
+        System.out.printf("✅ Probabilities add up to %.12f%n", total);
+
+        if (dice <= 12) {
+            System.out.println("-------------------------");
+            for (int k = 0; k < p.length; k++) {
+                System.out.printf("Total %3d : %.8f%n", dice + k, p[k]);
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/*
+╔════════════════════════════════════════════════════════════╗
+║        🎲 DICE ENGINE — ROLLING MILLIONS OF DICE FAST        ║
+╚════════════════════════════════════════════════════════════╝
+
+➤ The normal program calls random.nextInt(1, 7) and prints every die.
+  That's perfect for 5 dice, but far too slow for 500,000,000.
+
+📌 Trick 1 — many dice from one random number
+    6²⁴ is smaller than 2⁶³, so ONE random long in [0, 6²⁴) holds 24 dice:
+    read it in base 6 and every digit (0-5) is one die (+1 → 1-6).
+    That's 24 dice per call to the random generator instead of 1.
+
+📌 Trick 2 — partial sums on every core
+    The dice are cut into fixed CHUNKS, each with its own SplittableRandom
+    split from the seed. Chunks run in parallel and their totals (long, so
+    they never overflow) are added up at the end. Same seed → same total.
+*/
+public class DiceEngine {
+
+    static final int CHUNKS = 1024;
+    static final int DICE_PER_DRAW = 24;
+    static final long SIX_TO_THE_24 = 4_738_381_338_321_616_896L; // 6^24
+
+    // 🎲 rollSum() – total of `dice` six-sided dice
+    static long rollSum(long dice, long seed) {
+
+        // 🌱 One generator per chunk, split in a fixed order so results repeat
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] generators = new SplittableRandom[CHUNKS];
+        for (int i = 0; i < CHUNKS; i++) {
+            generators[i] = root.split();
+        }
+
+        return IntStream.range(0, CHUNKS)
+                .parallel()
+                .mapToLong(chunk -> {
+                    long chunkDice = dice / CHUNKS + (chunk < dice % CHUNKS ? 1 : 0);
+                    return sumChunk(chunkDice, generators[chunk]);
+                })
+                .sum();
+    }
+
+    // ➕ sumChunk() – rolls `dice` dice, 24 at a time
+    static long sumChunk(long dice, SplittableRandom random) {
+        long total = 0;
+        long fullDraws = dice / DICE_PER_DRAW;
+
+        for (long i = 0; i < fullDraws; i++) {
+            total += DICE_PER_DRAW + digitSum(random.nextLong(SIX_TO_THE_24));
+        }
+
+        // 🧹 Leftover dice (fewer than 24) one by one
+        for (long i = fullDraws * DICE_PER_DRAW; i < dice; i++) {
+            total += random.nextInt(1, 7);
+        }
+        return total;
+    }
+
+    // 🔢 digitSum() – sum of the base-6 digits of n (each digit is one die minus 1)
+    static int digitSum(long n) {
+        int sum = 0;
+        while (n != 0) {
+            sum += (int) (n % 6);
+            n /= 6;
+        }
+        return sum;
+    }
+}
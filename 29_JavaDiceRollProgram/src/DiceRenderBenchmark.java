@@ -0,0 +1,153 @@
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+
+/*
+╔════════════════════════════════════════════════════════════╗
+║     ⏱️ DICE RENDER BENCHMARK — per-die println vs buffered   ║
+╚════════════════════════════════════════════════════════════╝
+
+➤ Draws the same dice two ways and reports dice drawn per second:
+
+    🐢 OLD: the original printDie() + println for every die
+            (auto-flushing PrintStream, like the console)
+    🚀 NEW: DieRenderer — precomputed faces, side by side, one buffered
+            writer and one flush per batch
+
+➤ Output goes to a temporary file (not the screen) so the terminal's own
+  speed doesn't hide the difference. Every write still reaches the OS.
+
+➤ Run:
+    java DiceRenderBenchmark [dice]
+*/
+public class DiceRenderBenchmark {
+
+    static final int WARMUP_ROUNDS = 2;
+    static final int MEASURED_ROUNDS = 5;
+
+    public static void main(String[] args) throws IOException {
+
+        int dice = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+
+        int[] rolls = new int[dice];
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < dice; i++) {
+            rolls[i] = random.nextInt(1, 7);
+        }
+
+        File file = File.createTempFile("dice-render", ".txt");
+        file.deleteOnExit();
+
+        System.out.println("===============================");
+        System.out.println("   ⏱️ DICE RENDER BENCHMARK");
+        System.out.println("===============================");
+        System.out.printf("🎲 Dice per batch: %,d%n", dice);
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            renderOld(rolls, file);
+            renderNew(rolls, file);
+        }
+
+        report("🐢 per-die println ", rolls, file, true);
+        report("🚀 buffered rows   ", rolls, file, false);
+    }
+
+    // 📊 report() – best of the measured rounds, in dice per second
+    static void report(String name, int[] rolls, File file, boolean old) throws IOException {
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            if (old) {
+                renderOld(rolls, file);
+            } else {
+                renderNew(rolls, file);
+            }
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        System.out.printf("%s | %,14.0f dice/sec%n", name, rolls.length / (best / 1_000_000_000.0));
+    }
+
+    // 🐢 renderOld() – how Main.java used to print dice
+    static void renderOld(int[] rolls, File file) throws IOException {
+        try (PrintStream out = new PrintStream(new FileOutputStream(file), true, StandardCharsets.UTF_8)) {
+            for (int roll : rolls) {
+                legacyPrintDie(out, roll);
+                out.println("You rolled: " + roll);
+            }
+        }
+    }
+
+    // 🚀 renderNew() – how Main.java prints dice now
+    static void renderNew(int[] rolls, File file) throws IOException {
+        try (FileOutputStream stream = new FileOutputStream(file)) {
+            Writer out = DieRenderer.writer(stream);
+            DieRenderer.render(rolls, out);
+            out.flush();
+        }
+    }
+
+    // 🧓 legacyPrintDie() – the original printDie(), unchanged except for the target stream
+    static void legacyPrintDie(PrintStream out, int roll) {
+        String dice1 = """
+                -------
+               |       |
+               |   ●   |
+               |       |
+                -------
+               """;
+
+        String dice2 = """
+                -------
+               | ●     |
+               |       |
+               |     ● |
+                -------
+               """;
+
+        String dice3 = """
+                -------
+               | ●     |
+               |   ●   |
+               |     ● |
+                -------
+               """;
+
+        String dice4 = """
+                -------
+               | ●   ● |
+               |       |
+               | ●   ● |
+                -------
+               """;
+
+        String dice5 = """
+                 -------
+               | ●   ● |
+               |   ●   |
+               | ●   ● |
+                -------
+               """;
+
+        String dice6 = """
+               -------
+               | ●   ● |
+               | ●   ● |
+               | ●   ● |
+                -------
+               """;
+
+        switch (roll) {
+            case 1 -> out.println(dice1);
+            case 2 -> out.println(dice2);
+            case 3 -> out.println(dice3);
+            case 4 -> out.println(dice4);
+            case 5 -> out.println(dice5);
+            case 6 -> out.println(dice6);
+            default -> out.println("Invalid roll!");
+        }
+    }
+}
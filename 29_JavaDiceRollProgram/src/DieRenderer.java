@@ -0,0 +1,81 @@
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/*
+╔════════════════════════════════════════════════════════════╗
+║       🖼️ DIE RENDERER — FAST ASCII-ART DICE, SIDE BY SIDE    ║
+╚════════════════════════════════════════════════════════════╝
+
+➤ The first version of printDie() declared six text blocks inside the
+  method and did one System.out.println per die (plus one more for
+  "You rolled"), each pushed straight out to the console.
+
+📌 What we do instead:
+    - The six faces live in ONE static table, already split into lines.
+    - Dice are drawn side by side, DICE_PER_ROW at a time, so one row
+      of 10 dice is 6 lines of text instead of 60.
+    - Everything goes through one big BufferedWriter, and the caller
+      flushes it ONCE when the whole batch is written.
+
+        -------   -------   -------
+       | ●     | | ●   ● | |       |
+       |   ●   | |       | |   ●   |
+       |     ● | | ●   ● | |       |
+        -------   -------   -------
+       You rolled: 3 4 1
+*/
+public class DieRenderer {
+
+    static final int DICE_PER_ROW = 10;
+    static final int BUFFER_SIZE = 1 << 16;
+
+    // 🎲 FACES[roll][line] — index 0 is unused so FACES[1] is the "1" face
+    static final String[][] FACES = {
+            null,
+            {" ------- ", "|       |", "|   ●   |", "|       |", " ------- "},
+            {" ------- ", "| ●     |", "|       |", "|     ● |", " ------- "},
+            {" ------- ", "| ●     |", "|   ●   |", "|     ● |", " ------- "},
+            {" ------- ", "| ●   ● |", "|       |", "| ●   ● |", " ------- "},
+            {" ------- ", "| ●   ● |", "|   ●   |", "| ●   ● |", " ------- "},
+            {" ------- ", "| ●   ● |", "| ●   ● |", "| ●   ● |", " ------- "}
+    };
+    static final int FACE_LINES = 5;
+
+    // 🖨️ writer() – a big buffered UTF-8 writer around a stream (e.g. System.out)
+    static Writer writer(OutputStream out) {
+        return new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    // 🖼️ render() – draws every die, DICE_PER_ROW per row, each row followed by its values
+    static void render(int[] rolls, Writer out) throws IOException {
+        render(rolls, rolls.length, out);
+    }
+
+    // 🖼️ render() – the same for only the first `count` rolls (lets callers reuse one small array)
+    static void render(int[] rolls, int count, Writer out) throws IOException {
+        for (int from = 0; from < count; from += DICE_PER_ROW) {
+            int to = Math.min(from + DICE_PER_ROW, count);
+
+            for (int line = 0; line < FACE_LINES; line++) {
+                for (int i = from; i < to; i++) {
+                    if (i > from) {
+                        out.write(' ');
+                    }
+                    out.write(FACES[rolls[i]][line]);
+                }
+                out.write('\n');
+            }
+
+            out.write("You rolled:");
+            for (int i = from; i < to; i++) {
+                out.write(' ');
+                out.write('0' + rolls[i]);
+            }
+            out.write("\n\n");
+        }
+    }
+}
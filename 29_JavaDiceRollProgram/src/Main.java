@@ -1,8 +1,40 @@
+import java.io.IOException;
+import java.io.Writer;
 import java.util.Random;
 import java.util.Scanner;
 
 public class Main {
-    public static void main(String[] args){
+
+    // ⚠️ The one error message for a dice count below 1 (menu, --sum and --distribution)
+    static final String NOT_ENOUGH_DICE = "Number of dice must be greater than 0";
+
+    public static void main(String[] args) throws IOException {
+
+        // ⚡ Bulk mode: java Main --sum <dice> <seed>   (see DiceEngine.java)
+        if (args.length == 3 && args[0].equals("--sum")) {
+            long dice = Long.parseLong(args[1]);
+            if (dice < 1) {
+                System.out.println(NOT_ENOUGH_DICE);
+                return;
+            }
+            long start = System.nanoTime();
+            long total = DiceEngine.rollSum(dice, Long.parseLong(args[2]));
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+            System.out.printf("🎲 Rolled %,d dice → Total: %,d%n", dice, total);
+            System.out.printf("⏱️ %.2fs → %,.0f dice/sec%n", seconds, dice / seconds);
+            return;
+        }
+
+        // 📊 Exact odds mode: java Main --distribution <dice>   (see DiceDistribution.java)
+        if (args.length == 2 && args[0].equals("--distribution")) {
+            int dice = Integer.parseInt(args[1]);
+            if (dice < 1) {
+                System.out.println(NOT_ENOUGH_DICE);
+                return;
+            }
+            DiceDistribution.printSummary(dice, DiceDistribution.probabilities(dice));
+            return;
+        }
 
         // 🎲✨ DICE ROLLING SIMULATOR ✨🎲
         // This program simulates rolling one or more 6-sided dice.
@@ -19,7 +51,7 @@ public class Main {
         int numOfDice;
 
         // ➕ Variable to store the running total of all dice rolled
-        int total = 0;
+        long total = 0;
 
         // 📝 Prompt the user to input the number of dice
         System.out.print("Enter the number of dice to roll: ");
@@ -27,98 +59,39 @@ public class Main {
 
         // ✅ Validate user input
         if(numOfDice > 0){
-            // 🔁 Loop to simulate rolling each die
-            for(int i = 0; i < numOfDice; i++){
+            // 🖨️ All dice are drawn through ONE buffered writer (see DieRenderer.java)
+            Writer out = DieRenderer.writer(System.out);
+
+            // 📦 Only ONE row of rolls is kept at a time, so memory stays the same for any number of dice
+            int[] row = new int[DieRenderer.DICE_PER_ROW];
 
-                // 🎲 Generate a random number between 1 and 6 (inclusive)
-                int roll = random.nextInt(1, 7);  // 7 is exclusive, so this gives 1–6
+            // 🔁 Loop to simulate rolling each die, one row at a time
+            for(int done = 0; done < numOfDice; ){
+                int count = Math.min(row.length, numOfDice - done);
 
-                // 🖼️ Print the ASCII art of the die face
-                printDie(roll);
+                for(int i = 0; i < count; i++){
+                    // 🎲 Generate a random number between 1 and 6 (inclusive)
+                    row[i] = random.nextInt(1, 7);  // 7 is exclusive, so this gives 1–6
 
-                // 📣 Print the rolled value
-                System.out.println("You rolled: " + roll);
+                    // ➕ Add the roll to the total sum
+                    total += row[i];
+                }
 
-                // ➕ Add the roll to the total sum
-                total += roll;
+                // 🖼️ Draw this row of dice side by side
+                DieRenderer.render(row, count, out);
+                done += count;
             }
 
             // 🧮 Print the final total after all dice have been rolled
-            System.out.println("Total: " + total);
+            out.write("Total: " + total + "\n");
+            out.flush(); // 🚿 one flush for the whole batch
         }
         else {
             // ⚠️ If user entered a number less than 1, show an error
-            System.out.println("Number of dice must be greater than 0");
+            System.out.println(NOT_ENOUGH_DICE);
         }
 
         // 🧼 Close scanner to prevent resource leaks
         scanner.close();
     }
-
-    // 🖨️ printDie(int roll)
-    // This method displays a visual (ASCII) representation of the rolled die face.
-    // It uses multi-line strings for each dice face (from 1 to 6).
-    static void printDie(int roll){
-
-        // 🎲 Each string represents a dice face using ASCII characters
-
-        String dice1 = """
-                -------
-               |       |
-               |   ●   |
-               |       |
-                -------
-               """;
-
-        String dice2 = """
-                -------
-               | ●     |
-               |       |
-               |     ● |
-                -------
-               """;
-
-        String dice3 = """
-                -------
-               | ●     |
-               |   ●   |
-               |     ● |
-                -------
-               """;
-
-        String dice4 = """
-                -------
-               | ●   ● |
-               |       |
-               | ●   ● |
-                -------
-               """;
-
-        String dice5 = """
-                 -------
-               | ●   ● |
-               |   ●   |
-               | ●   ● |
-                -------
-               """;
-
-        String dice6 = """
-               -------
-               | ●   ● |
-               | ●   ● |
-               | ●   ● |
-                -------
-               """;
-
-        // 📦 Match the rolled value with its corresponding ASCII art
-        switch (roll){
-            case 1 -> System.out.println(dice1);
-            case 2 -> System.out.println(dice2);
-            case 3 -> System.out.println(dice3);
-            case 4 -> System.out.println(dice4);
-            case 5 -> System.out.println(dice5);
-            case 6 -> System.out.println(dice6);
-            default -> System.out.println("Invalid roll!");
-        }
-    }
 }
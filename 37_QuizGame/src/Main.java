@@ -1,7 +1,62 @@
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Scanner;
+import java.util.SplittableRandom;
 
 public class Main {
-    public static void main(String[] args) {
+
+    // 📋 QUESTIONS ARRAY — Stores all quiz questions
+    static final String[] QUESTIONS = {
+            "What is the main function of a router?",
+            "Which part of the computer is considered the brain?",
+            "What year was Facebook launched?",
+            "Who is known as the father of computers?",
+            "What was the first programming language?"
+    };
+
+    // 📝 OPTIONS ARRAY — Stores answer choices for each question (numbers are added when printed)
+    static final String[][] OPTIONS = {
+            {"Strong files", "Encrypting data", "Directing internet traffic", "Managing passwords"},
+            {"CPU", "Hard Drive", "RAM", "GPU"},
+            {"2000", "2004", "2006", "2008"},
+            {"Steve Jobs", "Bill Gates", "Alan Turing", "Charles Babbage"},
+            {"COBOL", "C", "Fortran", "Assembly"}
+    };
+
+    // ✅ CORRECT ANSWERS (by option number)
+    static final int[] ANSWERS = {3, 1, 2, 4, 3};
+
+    static final int QUESTIONS_PER_GAME = 5;
+
+    public static void main(String[] args) throws IOException {
+
+        // ✍️ java Main --make-bank <file> <count>  → writes a sample .qbank file (see QuestionBank.java)
+        if (args.length == 3 && args[0].equals("--make-bank")) {
+            makeSampleBank(Path.of(args[1]), Integer.parseInt(args[2]));
+            return;
+        }
+
+        // 📝 java Main --grade <sheets> <questions> [bank]  → bulk grading (see QuizGrader.java)
+        if (args.length >= 3 && args[0].equals("--grade")) {
+            try (QuestionBank bank = openBank(args, 3)) {
+                QuizGrader grader = new QuizGrader(bank, Integer.parseInt(args[2]));
+                long start = System.nanoTime();
+                QuizGrader.Tally tally = grader.grade(Path.of(args[1]));
+                grader.printReport(tally, (System.nanoTime() - start) / 1_000_000_000.0);
+            }
+            return;
+        }
+
+        // 🧪 java Main --make-sheets <file> <count> <questions> [bank]  → sample answer sheets to grade
+        if (args.length >= 4 && args[0].equals("--make-sheets")) {
+            try (QuestionBank bank = openBank(args, 4)) {
+                makeSampleSheets(Path.of(args[1]), Integer.parseInt(args[2]), Integer.parseInt(args[3]), bank);
+            }
+            return;
+        }
 
         /*
         ╔═════════════════════════════════════════════╗
@@ -9,31 +64,24 @@ public class Main {
         ╚═════════════════════════════════════════════╝
 
         ➤ A simple console-based multiple choice quiz game.
-        ➤ The player will be asked 5 questions.
-        ➤ Each question has 4 options (1-4).
+        ➤ The player will be asked 5 questions, in a random order.
+        ➤ Each question has 4 options (1-4), also shuffled.
         ➤ The program checks the answer, gives feedback, and tracks the score.
         */
 
-        // 📋 QUESTIONS ARRAY — Stores all quiz questions
-        String[] questions = {
-                "What is the main function of a router?",
-                "Which part of the computer is considered the brain?",
-                "What year was Facebook launched?",
-                "Who is known as the father of computers?",
-                "What was the first programming language?"
-        };
-
-        // 📝 OPTIONS ARRAY — Stores answer choices for each question
-        String[][] options = {
-                {"1. Strong files", "2. Encrypting data", "3. Directing internet traffic", "4. Managing passwords"},
-                {"1. CPU", "2. Hard Drive", "3. RAM", "4. GPU"},
-                {"1. 2000", "2. 2004", "3. 2006", "4. 2008"},
-                {"1. Steve Jobs", "2. Bill Gates", "3. Alan Turing", "4. Charles Babbage"},
-                {"1. COBOL", "2. C", "3. Fortran", "4. Assembly"}
-        };
-
-        // ✅ CORRECT ANSWERS (by option number)
-        int[] answers = {3, 1, 2, 4, 3};
+        // 📚 PICK THE QUESTION BANK — built-in questions, or java Main --bank <file> [seed]
+        QuestionBank bank;
+        if (args.length >= 2 && args[0].equals("--bank")) {
+            long opening = System.nanoTime();
+            bank = QuestionBank.open(Path.of(args[1]));
+            System.out.printf("📚 %,d questions ready in %.2f ms%n", bank.size(), (System.nanoTime() - opening) / 1_000_000.0);
+        } else {
+            bank = QuestionBank.fromArrays(QUESTIONS, OPTIONS, ANSWERS);
+        }
+        int total = Math.min(bank.size(), QUESTIONS_PER_GAME);
+
+        // 🔀 One key shuffles this session's questions AND their options (see Shuffle.java)
+        long sessionKey = args.length >= 3 && args[0].equals("--bank") ? Long.parseLong(args[2]) : new SplittableRandom().nextLong();
 
         // 🏆 Score counter
         int score = 0;
@@ -54,27 +102,32 @@ public class Main {
         System.out.println("🎉 Welcome to the Java Quiz Game!");
         System.out.println("=================================\n");
 
-        // 📚 LOOP THROUGH ALL QUESTIONS
-        for (int i = 0; i < questions.length; i++) {
+        // 📚 LOOP THROUGH THE QUESTIONS (in this session's shuffled order)
+        for (int k = 0; k < total; k++) {
+            int i = (int) Shuffle.permute(k, bank.size(), sessionKey);
 
             // 🧾 Print question
-            System.out.println("Q" + (i + 1) + ": " + questions[i]);
+            System.out.println("Q" + (k + 1) + ": " + bank.question(i));
 
-            // 🧾 Print options
-            for (String option : options[i]) {
-                System.out.println(option);
+            // 🧾 Print options — shown option o is stored option permute(o)
+            String[] options = bank.options(i);
+            long optionKey = Shuffle.keyFor(sessionKey, i);
+            for (int o = 0; o < options.length; o++) {
+                System.out.println((o + 1) + ". " + options[(int) Shuffle.permute(o, options.length, optionKey)]);
             }
 
             // 🎯 Get user guess
-            System.out.print("👉 Enter your guess (1-4): ");
+            System.out.print("👉 Enter your guess (1-" + options.length + "): ");
             guess = scanner.nextInt();
 
-            // ✅ Check answer
-            if (guess == answers[i]) {
+            // ✅ Check answer (find where the stored answer ended up on screen)
+            int answer = bank.answer(i);
+            int shownAnswer = (int) Shuffle.inverse(answer - 1, options.length, optionKey) + 1;
+            if (guess == shownAnswer) {
                 System.out.println("✅ CORRECT!\n");
                 score++;
             } else {
-                System.out.println("❌ WRONG! Correct answer was: " + answers[i] + "\n");
+                System.out.println("❌ WRONG! Correct answer was: " + shownAnswer + "\n");
             }
 
             System.out.println("---------------------------------");
@@ -85,16 +138,91 @@ public class Main {
         ║              🧾 FINAL RESULTS                ║
         ╚═════════════════════════════════════════════╝
         */
-        System.out.println("\n🎯 Your final score is: " + score + " / " + questions.length);
-        if (score == questions.length) {
-            System.out.println("🌟 Perfect score! You're a genius!");
-        } else if (score >= 3) {
-            System.out.println("👍 Great job! You know your stuff.");
-        } else {
-            System.out.println("📘 Keep practicing and try again!");
-        }
+        System.out.println("\n🎯 Your final score is: " + score + " / " + total);
+        System.out.println(SCORE_MESSAGES[scoreBand(score, total)]);
 
-        // 🛑 Close scanner
+        // 🛑 Close scanner and bank
         scanner.close();
+        bank.close();
+    }
+
+    // 🏅 SCORE BANDS — the message for each band (3 out of 5 = 60% counts as "great")
+    static final int PERFECT = 0, GREAT = 1, PRACTICE = 2;
+    static final String[] SCORE_MESSAGES = {
+            "🌟 Perfect score! You're a genius!",
+            "👍 Great job! You know your stuff.",
+            "📘 Keep practicing and try again!"
+    };
+
+    // 🏅 scoreBand() – which message a score earns
+    static int scoreBand(int score, int total) {
+        if (score == total) {
+            return PERFECT;
+        } else if (score * 5 >= total * 3) {
+            return GREAT;
+        }
+        return PRACTICE;
+    }
+
+    // 📚 openBank() – the bank file named at args[i], or the built-in questions
+    static QuestionBank openBank(String[] args, int i) throws IOException {
+        return args.length > i ? QuestionBank.open(Path.of(args[i])) : QuestionBank.fromArrays(QUESTIONS, OPTIONS, ANSWERS);
+    }
+
+    // 🧪 makeSampleSheets() – students of different skill answering questions of different difficulty
+    static void makeSampleSheets(Path file, int count, int questions, QuestionBank bank) throws IOException {
+        if (questions < 1 || questions > bank.size()) {
+            throw new IllegalArgumentException("The bank has " + bank.size() + " questions, not " + questions);
+        }
+        SplittableRandom random = new SplittableRandom(count);
+        double[] ease = new double[questions];
+        for (int q = 0; q < questions; q++) {
+            ease[q] = random.nextDouble(0.4, 1.0);
+        }
+        char[] line = new char[questions];
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.US_ASCII)) {
+            for (int student = 0; student < count; student++) {
+                double skill = random.nextDouble(0.3, 1.0);
+                for (int q = 0; q < questions; q++) {
+                    if (random.nextDouble() < skill * ease[q]) {
+                        line[q] = (char) ('0' + bank.answer(q));
+                    } else if (random.nextInt(10) == 0) {
+                        line[q] = '-';
+                    } else {
+                        line[q] = (char) ('1' + random.nextInt(bank.optionCount(q)));
+                    }
+                }
+                out.write("student-");
+                out.write(Integer.toString(student));
+                out.write(',');
+                out.write(line);
+                out.write('\n');
+            }
+        }
+        System.out.printf("🧪 Wrote %,d answer sheets to %s%n", count, file);
+    }
+
+    // ✍️ makeSampleBank() – the built-in questions followed by generated arithmetic ones
+    static void makeSampleBank(Path file, int count) throws IOException {
+        SplittableRandom random = new SplittableRandom(count);
+        long start = System.nanoTime();
+        try (QuestionBank.Writer writer = new QuestionBank.Writer(file, count)) {
+            for (int i = 0; i < count; i++) {
+                if (i < QUESTIONS.length) {
+                    writer.add(QUESTIONS[i], OPTIONS[i], ANSWERS[i]);
+                    continue;
+                }
+                int a = random.nextInt(100, 1000);
+                int b = random.nextInt(100, 1000);
+                int answer = random.nextInt(1, 5);
+                String[] options = new String[4];
+                for (int o = 0; o < 4; o++) {
+                    // Wrong options sit a few steps away from the right sum, so they never repeat it
+                    options[o] = String.valueOf(a + b + (o + 1 - answer) * 10);
+                }
+                writer.add("What is " + a + " + " + b + "?", options, answer);
+            }
+        }
+        System.out.printf("✍️ Wrote %,d questions to %s in %.2fs%n", count, file, (System.nanoTime() - start) / 1_000_000_000.0);
     }
 }
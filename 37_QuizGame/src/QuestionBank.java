@@ -0,0 +1,317 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/*
+╔═════════════════════════════════════════════╗
+║     📚 QUESTION BANK — MILLIONS OF QUESTIONS ║
+║        WITHOUT LOADING THEM ALL              ║
+╚═════════════════════════════════════════════╝
+
+➤ The game used to keep its questions in three inline arrays. That's
+  fine for 5 questions, but a bank of millions would take seconds to
+  read and gigabytes of heap before the first question is even asked.
+
+➤ A bank FILE (.qbank) is laid out so any question can be found directly:
+
+    ┌──────────── HEADER (16 bytes) ────────────┐
+    │ magic "QBNK" │ version │ count │ reserved │
+    ├──────────── INDEX (count × 8 bytes) ──────┤
+    │ file offset of question 0, 1, 2, ...      │
+    ├──────────── RECORDS ──────────────────────┤
+    │ answer (1 byte, 1-based)                  │
+    │ option count (1 byte)                     │
+    │ question  (2-byte length + UTF-8 text)    │
+    │ option 1…n (2-byte length + UTF-8 text)   │
+    └───────────────────────────────────────────┘
+
+📌 Memory-mapped, lazy:
+    - open() maps the file into memory but READS NOTHING. The OS pages
+      bytes in only when a question is actually asked, so opening a bank
+      of 10 questions or 10 million takes the same time.
+    - question(i) = one index lookup + one jump to the record.
+    - A single mapping can't be bigger than 2 GB, so big files are mapped
+      in 1 GB CHUNKS. Each chunk overlaps the next by MAX_RECORD bytes,
+      so a record is always read from the chunk it STARTS in.
+*/
+public class QuestionBank implements Closeable {
+
+    static final int MAGIC = 0x51424E4B;   // "QBNK"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 16;
+    static final int MAX_TEXT = 0xFFFF;     // longest question / option in UTF-8 bytes
+    static final int MAX_OPTIONS = 0xFF;
+    static final int MAX_RECORD = 2 + (MAX_OPTIONS + 1) * (2 + MAX_TEXT);
+    static final int CHUNK_BITS = 30;       // 1 GB chunks
+    static final long CHUNK_SIZE = 1L << CHUNK_BITS;
+    static final int MAX_QUESTIONS = (Integer.MAX_VALUE - HEADER_SIZE) / Long.BYTES;
+
+    private final FileChannel channel;     // null for an in-memory bank
+    private final ByteBuffer index;
+    private final ByteBuffer[] chunks;
+    private final int count;
+
+    private QuestionBank(FileChannel channel, ByteBuffer index, ByteBuffer[] chunks, int count) {
+        this.channel = channel;
+        this.index = index;
+        this.chunks = chunks;
+        this.count = count;
+    }
+
+    // 📂 open() – map a .qbank file (nothing is read until a question is asked)
+    static QuestionBank open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            if (size < HEADER_SIZE) {
+                throw new IOException(file + " is not a question bank (too short)");
+            }
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+            if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+                throw new IOException(file + " is not a version " + VERSION + " question bank");
+            }
+            int count = header.getInt(8);
+            if (count < 0 || count > MAX_QUESTIONS || HEADER_SIZE + (long) count * Long.BYTES > size) {
+                throw new IOException(file + " has a broken header");
+            }
+
+            ByteBuffer index = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE, (long) count * Long.BYTES);
+            ByteBuffer[] chunks = new ByteBuffer[(int) ((size + CHUNK_SIZE - 1) >>> CHUNK_BITS)];
+            for (int k = 0; k < chunks.length; k++) {
+                long start = k * CHUNK_SIZE;
+                long length = Math.min(size - start, CHUNK_SIZE + MAX_RECORD);
+                chunks[k] = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+            }
+            return new QuestionBank(channel, index, chunks, count);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    // 🧾 fromArrays() – the same format, built in memory (used for the built-in questions)
+    static QuestionBank fromArrays(String[] questions, String[][] options, int[] answers) {
+        int count = questions.length;
+        byte[][][] encoded = new byte[count][][];
+        long size = HEADER_SIZE + (long) count * Long.BYTES;
+        for (int i = 0; i < count; i++) {
+            encoded[i] = encode(questions[i], options[i], answers[i]);
+            size += recordSize(encoded[i]);
+        }
+        if (size > CHUNK_SIZE) {   // one buffer = one chunk, so every offset must stay inside chunk 0
+            throw new IllegalArgumentException("Too big for an in-memory bank; write a .qbank file instead");
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate((int) size);
+        putHeader(buffer, count);
+        int offset = HEADER_SIZE + count * Long.BYTES;
+        for (int i = 0; i < count; i++) {
+            buffer.putLong(HEADER_SIZE + i * Long.BYTES, offset);
+            buffer.position(offset);
+            putRecord(buffer, encoded[i], answers[i]);
+            offset = buffer.position();
+        }
+
+        ByteBuffer index = buffer.slice(HEADER_SIZE, count * Long.BYTES);
+        return new QuestionBank(null, index, new ByteBuffer[]{buffer}, count);
+    }
+
+    // 🔢 size() – how many questions the bank holds
+    int size() {
+        return count;
+    }
+
+    // ❓ question() – the text of question i
+    String question(int i) {
+        ByteBuffer chunk = chunkOf(i);
+        return readText(chunk, position(i) + 2);
+    }
+
+    // 📝 options() – the options of question i, in stored order, without numbers
+    String[] options(int i) {
+        ByteBuffer chunk = chunkOf(i);
+        int at = position(i);
+        String[] options = new String[chunk.get(at + 1) & 0xFF];
+        at += 2;
+        at += 2 + (chunk.getShort(at) & 0xFFFF); // skip the question
+        for (int o = 0; o < options.length; o++) {
+            options[o] = readText(chunk, at);
+            at += 2 + (chunk.getShort(at) & 0xFFFF);
+        }
+        return options;
+    }
+
+    // ✅ answer() – the correct option number (1-based) of question i
+    int answer(int i) {
+        return chunkOf(i).get(position(i)) & 0xFF;
+    }
+
+    // 🔢 optionCount() – how many options question i has
+    int optionCount(int i) {
+        return chunkOf(i).get(position(i) + 1) & 0xFF;
+    }
+
+    private long offset(int i) {
+        if (i < 0 || i >= count) {
+            throw new IndexOutOfBoundsException("No question " + i + " in a bank of " + count);
+        }
+        return index.getLong(i * Long.BYTES);
+    }
+
+    private ByteBuffer chunkOf(int i) {
+        return chunks[(int) (offset(i) >>> CHUNK_BITS)];
+    }
+
+    private int position(int i) {
+        return (int) (offset(i) & (CHUNK_SIZE - 1));
+    }
+
+    // 🔤 readText() – a 2-byte length followed by that many UTF-8 bytes
+    private static String readText(ByteBuffer chunk, int at) {
+        byte[] bytes = new byte[chunk.getShort(at) & 0xFFFF];
+        chunk.get(at + 2, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+    /*
+    ╔═════════════════════════════════════════════╗
+    ║           ✍️ WRITING A BANK FILE             ║
+    ╚═════════════════════════════════════════════╝
+    ➤ Records are streamed out through a 1 MB buffer, and only their
+      offsets (8 bytes per question) stay in memory until the index is
+      written at the end.
+    */
+    static final class Writer implements Closeable {
+        private final FileChannel channel;
+        private final long[] offsets;
+        private final ByteBuffer buffer = ByteBuffer.allocate(1 << 20);
+        private long position;
+        private int added;
+
+        Writer(Path file, int count) throws IOException {
+            if (count < 0 || count > MAX_QUESTIONS) {
+                throw new IllegalArgumentException("A bank holds 0 to " + MAX_QUESTIONS + " questions");
+            }
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            offsets = new long[count];
+            position = HEADER_SIZE + (long) count * Long.BYTES;
+        }
+
+        // ➕ add() – append the next question
+        void add(String question, String[] options, int answer) throws IOException {
+            if (added == offsets.length) {
+                throw new IllegalStateException("The bank is already full (" + added + " questions)");
+            }
+            byte[][] encoded = encode(question, options, answer);
+            int size = recordSize(encoded);
+            if (buffer.remaining() < size) {
+                drain();
+            }
+            offsets[added++] = position + buffer.position();
+            if (size <= buffer.capacity()) {
+                putRecord(buffer, encoded, answer);
+                return;
+            }
+            // 🐘 Bigger than the whole buffer — write it on its own
+            ByteBuffer big = ByteBuffer.allocate(size);
+            putRecord(big, encoded, answer);
+            big.flip();
+            while (big.hasRemaining()) {
+                position += channel.write(big, position);
+            }
+        }
+
+        private void drain() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+            buffer.clear();
+        }
+
+        // 💾 close() – flush the records, then write the header and the index in front of them
+        @Override
+        public void close() throws IOException {
+            try {
+                if (added != offsets.length) {
+                    throw new IllegalStateException("Only " + added + " of " + offsets.length + " questions were added");
+                }
+                drain();
+                long at = 0;
+                putHeader(buffer, offsets.length);
+                buffer.position(HEADER_SIZE);
+                for (long offset : offsets) {
+                    if (!buffer.hasRemaining()) {
+                        buffer.flip();
+                        while (buffer.hasRemaining()) {
+                            at += channel.write(buffer, at);
+                        }
+                        buffer.clear();
+                    }
+                    buffer.putLong(offset);
+                }
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    at += channel.write(buffer, at);
+                }
+            } finally {
+                channel.close();
+            }
+        }
+    }
+
+    // 🧱 Shared by the file writer and fromArrays() so both produce the same bytes
+
+    private static void putHeader(ByteBuffer buffer, int count) {
+        buffer.clear();
+        buffer.putInt(0, MAGIC).putInt(4, VERSION).putInt(8, count).putInt(12, 0);
+    }
+
+    private static byte[][] encode(String question, String[] options, int answer) {
+        if (options.length < 1 || options.length > MAX_OPTIONS) {
+            throw new IllegalArgumentException("A question needs 1 to " + MAX_OPTIONS + " options");
+        }
+        if (answer < 1 || answer > options.length) {
+            throw new IllegalArgumentException("Answer " + answer + " is not one of the " + options.length + " options");
+        }
+        byte[][] encoded = new byte[options.length + 1][];
+        encoded[0] = question.getBytes(StandardCharsets.UTF_8);
+        for (int o = 0; o < options.length; o++) {
+            encoded[o + 1] = options[o].getBytes(StandardCharsets.UTF_8);
+        }
+        for (byte[] text : encoded) {
+            if (text.length > MAX_TEXT) {
+                throw new IllegalArgumentException("Text longer than " + MAX_TEXT + " bytes");
+            }
+        }
+        return encoded;
+    }
+
+    private static int recordSize(byte[][] encoded) {
+        int size = 2;
+        for (byte[] text : encoded) {
+            size += 2 + text.length;
+        }
+        return size;
+    }
+
+    private static void putRecord(ByteBuffer buffer, byte[][] encoded, int answer) {
+        buffer.put((byte) answer);
+        buffer.put((byte) (encoded.length - 1));
+        for (byte[] text : encoded) {
+            buffer.putShort((short) text.length);
+            buffer.put(text);
+        }
+    }
+}
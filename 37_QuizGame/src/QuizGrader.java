@@ -0,0 +1,195 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+/*
+╔═════════════════════════════════════════════╗
+║   📝 QUIZ GRADER — THOUSANDS OF EXAMS AT ONCE ║
+╚═════════════════════════════════════════════╝
+
+➤ Instead of one player typing answers, we get a FILE of answer sheets:
+
+      student-0001,3124-1...
+      student-0002,3121411...
+
+  one line per student: an id, a comma, then one character per question
+  ('1'-'4' = the chosen option, '-' or '0' = left blank). An option the
+  question doesn't have (e.g. '4' on a 3-option question) makes the line
+  malformed — it is not quietly marked wrong.
+
+📌 Packed answers — 2 bits each:
+    - With 4 options an answer is 0-3 (option - 1), which fits in 2 bits,
+      so ONE long holds 32 answers and a 100-question exam is 4 longs.
+    - The key is packed the same way. For a sheet, per long:
+          x       = sheet ^ key                  (00 where they agree)
+          correct = ~(x | x >>> 1) & 0x5555…     (1 in the low bit of each agreeing pair)
+                    & answered                   (blanks are never right)
+      and Long.bitCount(correct) is the number of right answers —
+      32 questions marked with a handful of instructions, no branches.
+
+📌 Parallel:
+    - Files.lines(...).parallel() splits the file across cores.
+    - Every fork-join task fills its own Tally; tallies are added at the end.
+
+➤ Output: score distribution, per-question difficulty (share answered
+  correctly) and how many students got each of the game's score messages.
+*/
+public class QuizGrader {
+
+    static final int PER_WORD = 32;                       // 2-bit answers per long
+    static final long LOW_BITS = 0x5555_5555_5555_5555L;  // the low bit of every pair
+
+    final int questions;
+    final int words;
+    private final long[] key;
+    private final char[] lastOption;   // highest answer digit question q accepts ('3' for 3 options)
+
+    // 🔑 QuizGrader() – packs the answer key of the first `questions` questions of the bank
+    QuizGrader(QuestionBank bank, int questions) {
+        if (questions < 1 || questions > bank.size()) {
+            throw new IllegalArgumentException("The bank has " + bank.size() + " questions, not " + questions);
+        }
+        this.questions = questions;
+        this.words = (questions + PER_WORD - 1) / PER_WORD;
+        this.key = new long[words];
+        this.lastOption = new char[questions];
+        for (int q = 0; q < questions; q++) {
+            if (bank.optionCount(q) > 4) {
+                throw new IllegalArgumentException("Question " + (q + 1) + " has more than 4 options");
+            }
+            lastOption[q] = (char) ('0' + bank.optionCount(q));
+            key[q / PER_WORD] |= (long) (bank.answer(q) - 1) << (2 * (q % PER_WORD));
+        }
+    }
+
+    // 🧮 Tally – everything one fork-join task has counted so far
+    final class Tally {
+        final long[] scores = new long[questions + 1];   // scores[s] = sheets that scored s
+        final long[] correct = new long[questions];      // correct[q] = sheets that got q right
+        long sheets;
+        long malformed;
+
+        // scratch space for one packed sheet, reused line after line
+        private final long[] sheet = new long[words];
+        private final long[] answered = new long[words];
+
+        // ✏️ grade() – pack one line and mark it
+        void grade(String line) {
+            if (!pack(line)) {
+                malformed++;
+                return;
+            }
+            int score = 0;
+            for (int w = 0; w < words; w++) {
+                long x = sheet[w] ^ key[w];
+                long right = ~(x | x >>> 1) & LOW_BITS & answered[w];
+                score += Long.bitCount(right);
+                while (right != 0) {
+                    correct[w * PER_WORD + Long.numberOfTrailingZeros(right) / 2]++;
+                    right &= right - 1;
+                }
+            }
+            scores[score]++;
+            sheets++;
+        }
+
+        // 📦 pack() – "id,3124-…" → 2-bit answers + answered mask; false if the line is broken
+        private boolean pack(String line) {
+            int comma = line.indexOf(',');
+            if (comma < 0 || line.length() - comma - 1 != questions) {
+                return false;
+            }
+            for (int w = 0; w < words; w++) {
+                sheet[w] = 0;
+                answered[w] = 0;
+            }
+            for (int q = 0; q < questions; q++) {
+                char c = line.charAt(comma + 1 + q);
+                int shift = 2 * (q % PER_WORD);
+                if (c >= '1' && c <= lastOption[q]) {
+                    sheet[q / PER_WORD] |= (long) (c - '1') << shift;
+                    answered[q / PER_WORD] |= 1L << shift;
+                } else if (c != '-' && c != '0') {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // ➕ add() – merge another task's tally into this one
+        void add(Tally other) {
+            for (int s = 0; s < scores.length; s++) {
+                scores[s] += other.scores[s];
+            }
+            for (int q = 0; q < questions; q++) {
+                correct[q] += other.correct[q];
+            }
+            sheets += other.sheets;
+            malformed += other.malformed;
+        }
+    }
+
+    // 🚀 grade() – grade every sheet in the file in parallel
+    //    (ISO-8859-1 turns every byte into one char and never fails, so a stray
+    //     non-ASCII byte just makes pack() reject that line as malformed)
+    Tally grade(Path file) throws IOException {
+        try (Stream<String> lines = Files.lines(file, StandardCharsets.ISO_8859_1)) {
+            return lines.parallel()
+                    .filter(line -> !line.isBlank())
+                    .collect(Tally::new, Tally::grade, Tally::add);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    // 🖨️ printReport() – distribution, difficulty and score messages
+    void printReport(Tally tally, double seconds) {
+        System.out.println("==============================================");
+        System.out.println("           📝 BULK QUIZ GRADING REPORT");
+        System.out.println("==============================================");
+        System.out.printf("📄 %,d sheets graded in %.2fs → %,.0f sheets/sec%n", tally.sheets, seconds, tally.sheets / seconds);
+        System.out.printf("❌ Malformed lines skipped: %,d%n", tally.malformed);
+        if (tally.sheets == 0) {
+            System.out.println("==============================================");
+            return;
+        }
+
+        long points = 0;
+        for (int s = 0; s <= questions; s++) {
+            points += s * tally.scores[s];
+        }
+        System.out.printf("🎯 Average score: %.2f / %d%n", (double) points / tally.sheets, questions);
+
+        System.out.println("----------------------------------------------");
+        System.out.println("📊 Score distribution");
+        long[] perBand = new long[Main.SCORE_MESSAGES.length];
+        for (int s = 0; s <= questions; s++) {
+            perBand[Main.scoreBand(s, questions)] += tally.scores[s];
+            if (tally.scores[s] > 0) {
+                System.out.printf("%5d | %,12d | %6.2f%%%n", s, tally.scores[s], 100.0 * tally.scores[s] / tally.sheets);
+            }
+        }
+
+        System.out.println("----------------------------------------------");
+        System.out.println("🧩 Per-question difficulty (share answered correctly, hardest first)");
+        Integer[] order = new Integer[questions];
+        for (int q = 0; q < questions; q++) {
+            order[q] = q;
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(tally.correct[a], tally.correct[b]));
+        for (int q : order) {   // every question, so none of them is hidden
+            System.out.printf("  Q%-4d %6.2f%%%n", q + 1, 100.0 * tally.correct[q] / tally.sheets);
+        }
+
+        System.out.println("----------------------------------------------");
+        System.out.println("🏅 Score messages");
+        for (int band = 0; band < perBand.length; band++) {
+            System.out.printf("%,12d × %s%n", perBand[band], Main.SCORE_MESSAGES[band]);
+        }
+        System.out.println("==============================================");
+    }
+}
@@ -0,0 +1,108 @@
+/*
+╔═════════════════════════════════════════════╗
+║   🔀 SHUFFLE — A RANDOM ORDER WITHOUT A COPY  ║
+╚═════════════════════════════════════════════╝
+
+➤ To shuffle a bank of 10 million questions the usual way, every player
+  would need their own array of 10 million positions (40-80 MB each).
+
+➤ Instead we COMPUTE where position i goes, one position at a time:
+
+      permute(i, n, key)  →  a number in [0, n), different for every i
+
+  Same key → same order, different key → different order, and the only
+  thing a session has to remember is its key (one long).
+
+📌 How: a Feistel network
+    - Split i into two halves L and R (h bits each, 2^(2h) ≥ n).
+    - Each ROUND does   L, R  →  R, L ^ F(R)
+      where F is a scrambling function of R, the key and the round.
+      Whatever F is, a round can always be undone (R, L ^ F(R) → L, R),
+      so the whole thing is a PERMUTATION of all 2^(2h) numbers.
+    - If the result lands in [n, 2^(2h)), we just permute again
+      ("cycle walking") until it falls inside [0, n). Since 2^(2h) < 4n
+      that takes fewer than 4 tries on average.
+    - inverse() runs the rounds backwards: "where did position p come from?"
+*/
+public class Shuffle {
+
+    static final int ROUNDS = 4;
+
+    // 🔀 permute() – where position i (0 ≤ i < n) goes in the order chosen by `key`
+    static long permute(long i, long n, long key) {
+        check(i, n);
+        int half = halfBits(n);
+        long x = i;
+        do {
+            x = encrypt(x, half, key);
+        } while (x >= n);
+        return x;
+    }
+
+    // ↩️ inverse() – the i with permute(i, n, key) == p
+    static long inverse(long p, long n, long key) {
+        check(p, n);
+        int half = halfBits(n);
+        long x = p;
+        do {
+            x = decrypt(x, half, key);
+        } while (x >= n);
+        return x;
+    }
+
+    // 🔑 keyFor() – a separate key for each question's options, derived from the session key
+    static long keyFor(long sessionKey, long question) {
+        return mix(sessionKey ^ mix(question + 0x632BE59BD9B4E019L));
+    }
+
+    private static long encrypt(long x, int half, long key) {
+        long mask = (1L << half) - 1;
+        long left = x >>> half;
+        long right = x & mask;
+        for (int round = 0; round < ROUNDS; round++) {
+            long next = left ^ (round(right, key, round) & mask);
+            left = right;
+            right = next;
+        }
+        return (left << half) | right;
+    }
+
+    private static long decrypt(long x, int half, long key) {
+        long mask = (1L << half) - 1;
+        long left = x >>> half;
+        long right = x & mask;
+        for (int round = ROUNDS - 1; round >= 0; round--) {
+            long previous = right ^ (round(left, key, round) & mask);
+            right = left;
+            left = previous;
+        }
+        return (left << half) | right;
+    }
+
+    // 🌀 round() – the F function: any well-mixed hash of (half, key, round) works
+    private static long round(long half, long key, int round) {
+        return mix(half + key + (round + 1) * 0x9E3779B97F4A7C15L);
+    }
+
+    // 🌀 mix() – SplitMix64's finalizer: every input bit flips about half of the output bits
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    // 📏 halfBits() – h such that 2^(2h) ≥ n (at least 1)
+    private static int halfBits(long n) {
+        int bits = 64 - Long.numberOfLeadingZeros(n - 1);
+        return Math.max(1, (bits + 1) / 2);
+    }
+
+    private static void check(long i, long n) {
+        if (n < 1 || n > 1L << 62) {
+            throw new IllegalArgumentException("Can only shuffle 1 to 2^62 items, not " + n);
+        }
+        if (i < 0 || i >= n) {
+            throw new IndexOutOfBoundsException(i + " is not in [0, " + n + ")");
+        }
+    }
+}
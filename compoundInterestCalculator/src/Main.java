@@ -30,9 +30,18 @@ public class Main {
             - Precision output using printf()
         */
 
+        // 📊 Sweep mode: java Main --sweep <scenarios> <seed>  (many scenarios at once, see ScenarioSweep.java)
+        if (args.length == 3 && args[0].equals("--sweep")) {
+            ScenarioSweep.run(Integer.parseInt(args[1]), Long.parseLong(args[2]));
+            return;
+        }
+
         // 🛠️ Step 1: Setup Scanner for user input
         Scanner scanner = new Scanner(System.in);
 
+        // 📅 Schedule mode: java Main --schedule  (balance after every period, see Schedule.java)
+        boolean scheduleMode = args.length == 1 && args[0].equals("--schedule");
+
         // 🧮 Step 2: Declare variables
         double principal;         // P → Initial amount deposited
         double rate;              // r → Annual interest rate (as decimal)
@@ -54,9 +63,15 @@ public class Main {
         System.out.print("Enter the Number of Years: ");
         years = scanner.nextInt(); // E.g., 5 years
 
-        // 📐 Step 4: Calculate total amount using compound interest formula
-        // A = P * (1 + r/n)^(nt)
-        amount = principal * Math.pow((1 + (rate / timeCompounded)), timeCompounded * years);
+        if (scheduleMode) {
+            System.out.print("Enter a Payment per Period (deposit > 0, loan payment < 0, 0 for none): ");
+            Schedule.print(principal, rate, timeCompounded, years, scanner.nextDouble());
+            scanner.close();
+            return;
+        }
+
+        // 📐 Step 4: Calculate total amount using compound interest formula (see amount() below)
+        amount = amount(principal, rate, timeCompounded, years);
 
         // 🖨️ Step 5: Display the result with 2 decimal places using printf()
         System.out.printf("The total amount after %d years is: $%.2f%n", years, amount);
@@ -106,5 +121,9 @@ public class Main {
 
         */
     }
-}
 
+    // 📐 amount() – A = P * (1 + r/n)^(nt), the ONE place the formula lives (the sweep uses it too)
+    static double amount(double principal, double rate, int timeCompounded, int years) {
+        return principal * Math.pow((1 + (rate / timeCompounded)), timeCompounded * years);
+    }
+}
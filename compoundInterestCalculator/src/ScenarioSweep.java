@@ -0,0 +1,164 @@
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/*
+====================================================================================
+📊 SCENARIO SWEEP – MILLIONS OF "WHAT IF?"s AT ONCE
+====================================================================================
+
+🎯 GOAL:
+Instead of one (P, r, n, t) typed in by hand, compute A = P * (1 + r/n)^(nt) for
+millions of scenarios — e.g. every client portfolio, or every combination of
+rates and terms someone wants to compare.
+
+HOW IT WORKS:
+- 📦 Scenarios are COLUMNS of primitives: principal[], rate[], timesPerYear[],
+  years[] → amount[]. No Scenario objects, so millions fit in memory and the
+  loop just walks arrays.
+- 🧵 Big sweeps are cut into CHUNKS of scenarios that run in parallel; every
+  chunk writes only its own part of amount[], so no locking is needed.
+- 🔲 GRID: every combination of a few principals × rates × compoundings × years.
+  A = P × growth(r, n, t), and growth doesn't depend on P — so Math.pow() runs
+  once per (r, n, t) and each of the (many) principals only costs a multiply.
+====================================================================================
+*/
+public class ScenarioSweep {
+
+    static final int CHUNKS = 256;
+    static final int PARALLEL_THRESHOLD = 1 << 14;   // scenarios; below this one thread is faster
+
+    // 📦 amounts() – amount[i] for scenario i
+    static void amounts(double[] principal, double[] rate, int[] timesPerYear, int[] years, double[] amount) {
+        int scenarios = principal.length;
+        if (rate.length != scenarios || timesPerYear.length != scenarios || years.length != scenarios || amount.length < scenarios) {
+            throw new IllegalArgumentException("All scenario columns must have the same length");
+        }
+        if (scenarios < PARALLEL_THRESHOLD) {
+            amounts(principal, rate, timesPerYear, years, amount, 0, scenarios);
+            return;
+        }
+        IntStream.range(0, CHUNKS).parallel().forEach(chunk -> {
+            int from = (int) ((long) scenarios * chunk / CHUNKS);
+            int to = (int) ((long) scenarios * (chunk + 1) / CHUNKS);
+            amounts(principal, rate, timesPerYear, years, amount, from, to);
+        });
+    }
+
+    private static void amounts(double[] principal, double[] rate, int[] timesPerYear, int[] years, double[] amount, int from, int to) {
+        for (int i = from; i < to; i++) {
+            amount[i] = Main.amount(principal[i], rate[i], timesPerYear[i], years[i]);
+        }
+    }
+
+    /*
+    ╔═══════════════════════════════════════╗
+    ║        🔲 GRID                         ║
+    ╚═══════════════════════════════════════╝
+    ➤ Scenario (p, r, n, t) lands at amount[((p × R + r) × N + n) × T + t]
+      (R, N, T = how many rates, compoundings and years are given).
+    */
+    static double[] grid(double[] principals, double[] rates, int[] timesPerYear, int[] years) {
+        int perPrincipal = rates.length * timesPerYear.length * years.length;
+        long cells = (long) principals.length * perPrincipal;
+        if (cells > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Grid too big: " + cells + " scenarios");
+        }
+
+        // 📈 growth[(r × N + n) × T + t] = (1 + r/n)^(nt) — the only Math.pow() calls
+        double[] growth = new double[perPrincipal];
+        for (int r = 0; r < rates.length; r++) {
+            for (int n = 0; n < timesPerYear.length; n++) {
+                for (int t = 0; t < years.length; t++) {
+                    growth[(r * timesPerYear.length + n) * years.length + t] = Main.amount(1, rates[r], timesPerYear[n], years[t]);
+                }
+            }
+        }
+
+        double[] amount = new double[(int) cells];
+        if (cells < PARALLEL_THRESHOLD) {
+            grid(principals, growth, amount, 0, principals.length);
+            return amount;
+        }
+        int chunks = Math.min(CHUNKS, principals.length);
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            int from = (int) ((long) principals.length * chunk / chunks);
+            int to = (int) ((long) principals.length * (chunk + 1) / chunks);
+            grid(principals, growth, amount, from, to);
+        });
+        return amount;
+    }
+
+    private static void grid(double[] principals, double[] growth, double[] amount, int from, int to) {
+        for (int p = from; p < to; p++) {
+            double principal = principals[p];
+            int base = p * growth.length;
+            for (int g = 0; g < growth.length; g++) {
+                amount[base + g] = principal * growth[g];
+            }
+        }
+    }
+
+    /*
+    ╔═══════════════════════════════════════╗
+    ║        🚀 DEMO                         ║
+    ╚═══════════════════════════════════════╝
+    */
+    static void run(int scenarios, long seed) {
+        if (scenarios < 1) {
+            throw new IllegalArgumentException("Need at least 1 scenario");
+        }
+
+        // 🎲 Random scenarios: ₹1,000–₹1,000,000, 0.5–12%, yearly to daily, 1–40 years
+        SplittableRandom random = new SplittableRandom(seed);
+        int[] compoundings = {1, 2, 4, 12, 365};
+        double[] principal = new double[scenarios];
+        double[] rate = new double[scenarios];
+        int[] timesPerYear = new int[scenarios];
+        int[] years = new int[scenarios];
+        for (int i = 0; i < scenarios; i++) {
+            principal[i] = random.nextDouble(1_000, 1_000_000);
+            rate[i] = random.nextDouble(0.005, 0.12);
+            timesPerYear[i] = compoundings[random.nextInt(compoundings.length)];
+            years[i] = random.nextInt(1, 41);
+        }
+
+        System.out.println("===============================");
+        System.out.println("   📊 SCENARIO SWEEP");
+        System.out.println("===============================");
+
+        double[] amount = new double[scenarios];
+        long start = System.nanoTime();
+        amounts(principal, rate, timesPerYear, years, amount);
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        double total = 0, min = Double.MAX_VALUE, max = 0;
+        for (double a : amount) {
+            total += a;
+            min = Math.min(min, a);
+            max = Math.max(max, a);
+        }
+        System.out.printf("🎲 %,d random scenarios in %.3fs (%,.0f scenarios/sec)%n", scenarios, seconds, scenarios / seconds);
+        System.out.printf("💰 smallest $%,.2f | average $%,.2f | largest $%,.2f%n", min, total / scenarios, max);
+
+        // 🔲 Grid: as many principals as it takes to reach about `scenarios` cells
+        double[] rates = {0.02, 0.04, 0.06, 0.08, 0.10};
+        int[] gridYears = {5, 10, 20, 30};
+        int principals = Math.max(1, scenarios / (rates.length * compoundings.length * gridYears.length));
+        double[] gridPrincipals = new double[principals];
+        for (int p = 0; p < principals; p++) {
+            gridPrincipals[p] = 1_000 + 1_000.0 * p;
+        }
+        start = System.nanoTime();
+        double[] cells = grid(gridPrincipals, rates, compoundings, gridYears);
+        seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        System.out.printf("🔲 grid %,d × %d × %d × %d = %,d scenarios in %.3fs (%,.0f scenarios/sec)%n",
+                principals, rates.length, compoundings.length, gridYears.length, cells.length, seconds, cells.length / seconds);
+
+        // ✅ Spot-check the grid against the one-scenario formula
+        int p = principals - 1, r = rates.length - 1, n = compoundings.length - 1, t = gridYears.length - 1;
+        double expected = Main.amount(gridPrincipals[p], rates[r], compoundings[n], gridYears[t]);
+        double actual = cells[((p * rates.length + r) * compoundings.length + n) * gridYears.length + t];
+        System.out.printf("🔍 $%,.0f at %.0f%%, %d×/year, %d years → $%,.2f %s%n", gridPrincipals[p], rates[r] * 100,
+                compoundings[n], gridYears[t], actual, Math.abs(actual - expected) <= 1e-9 * expected ? "✅" : "❌ expected " + expected);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+====================================================================================
+📅 SCHEDULE – THE BALANCE AFTER EVERY PERIOD
+====================================================================================
+
+🎯 GOAL:
+Not just the final amount, but the whole path there: interest earned and balance
+after period 1, 2, 3, ... n × t. With a payment per period it also covers
+savings plans (payment > 0, a deposit) and loans (payment < 0, paying it off).
+
+HOW IT WORKS (multiply forward):
+- Every period the balance grows by the same factor g = 1 + r/n, so
+
+      balance[k] = balance[k - 1] × g + payment
+
+  (written as balance + balance × r/n, which is the same thing and also gives
+  the interest of that period). ONE multiply and a couple of adds per period
+  instead of a Math.pow(g, k) for every k.
+- Rounding: each step adds at most a tiny rounding error, so after k periods the
+  result can differ from P × g^k in about the last log10(k) of its ~16 digits —
+  far below a cent for any realistic schedule.
+- 🏁 A loan (payment < 0) stops once it is paid off: the last payment is only
+  what is still owed, the balance ends at exactly 0 and fill() returns how many
+  periods were actually used — no running past zero into "negative interest".
+- The caller hands in the arrays, so filling a schedule never allocates.
+====================================================================================
+*/
+public class Schedule {
+
+    // 📅 fill() – interest[k] and balance[k] for periods k = 0 .. used-1 (period k+1 in the printout); returns used
+    static int fill(double principal, double rate, int timesPerYear, int years, double payment,
+                     double[] interest, double[] balance) {
+        int periods = periods(timesPerYear, years);
+        if (interest.length < periods || balance.length < periods) {
+            throw new IllegalArgumentException("Need room for " + periods + " periods");
+        }
+        double periodRate = rate / timesPerYear;
+        double current = principal;
+        for (int k = 0; k < periods; k++) {
+            double earned = current * periodRate;
+            interest[k] = earned;
+            if (payment < 0 && current + earned + payment <= 0) {
+                balance[k] = 0;   // 🏁 paid off: the last payment is just current + earned
+                return k + 1;
+            }
+            current = current + earned + payment;
+            balance[k] = current;
+        }
+        return periods;
+    }
+
+    // 🔢 periods() – n × t, checked
+    static int periods(int timesPerYear, int years) {
+        if (timesPerYear < 1 || years < 0) {
+            throw new IllegalArgumentException("Compounding must be at least once a year and years can't be negative");
+        }
+        return Math.multiplyExact(timesPerYear, years);
+    }
+
+    // 🖨️ print() – one line per period, plus the totals
+    static void print(double principal, double rate, int timesPerYear, int years, double payment) {
+        int periods = periods(timesPerYear, years);
+        double[] interest = new double[periods];
+        double[] balance = new double[periods];
+        int used = fill(principal, rate, timesPerYear, years, payment, interest, balance);
+
+        System.out.println(" Period |      Interest |       Payment |        Balance");
+        System.out.println("--------+---------------+---------------+---------------");
+        boolean paidOff = payment < 0 && used > 0 && balance[used - 1] == 0;
+        double totalInterest = 0;
+        double previous = principal;
+        for (int k = 0; k < used; k++) {
+            totalInterest += interest[k];
+            // the last payment of a paid-off loan is only what was still owed
+            double paid = paidOff && k == used - 1 ? balance[k] - previous - interest[k] : payment;
+            System.out.printf("%7d | %13.2f | %13.2f | %14.2f%n", k + 1, interest[k], paid, balance[k]);
+            previous = balance[k];
+        }
+        if (paidOff) {
+            System.out.println("🏁 Paid off after " + used + " of " + periods + " periods");
+        }
+        System.out.printf("💰 Total interest: $%.2f, final balance: $%.2f%n", totalInterest,
+                used == 0 ? principal : balance[used - 1]);
+    }
+}
@@ -0,0 +1,315 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+╔════════════════════════════════════════════════════════════╗
+║     🌐 GAME SERVER — MANY PLAYERS, ONE PROCESS, FEW THREADS  ║
+╚════════════════════════════════════════════════════════════╝
+
+➤ The console game talks to ONE player through Scanner(System.in).
+  The server plays the same game with thousands of players at once
+  over TCP on 127.0.0.1.
+
+➤ Protocol (one line each way, per round):
+        client → "rock\n"
+        server → "paper lose\n"      (computer's move, then YOUR result)
+        server → "invalid\n"         (not rock / paper / scissors)
+  Send "quit" or just hang up to leave.
+
+📌 How it scales without a thread per player:
+    - One acceptor thread hands new connections to a few EVENT LOOPS
+      (one per core). Each loop is a Selector that serves every one of its
+      connections from a single thread, so 10,000 idle players cost
+      10,000 small Session objects — not 10,000 threads.
+    - Each Session keeps its own MarkovPredictor, so every player faces
+      the same learning computer as in the console game.
+    - Shared stats are LongAdders (striped counters): each core bumps its
+      own cell, and the cells are only added up when someone asks.
+*/
+public class GameServer implements Closeable {
+
+    static final int LINE_LIMIT = 64;
+    static final int MAX_REPLY = 16;   // "scissors lose\n" is the longest
+
+    // 📨 REPLIES[computerMove][outcome] — every possible answer, encoded once
+    static final byte[][][] REPLIES = new byte[3][3][];
+    static final byte[] INVALID = "invalid\n".getBytes(StandardCharsets.US_ASCII);
+    static final byte[][] MOVE_BYTES = new byte[3][];
+    static final byte[] QUIT = "quit".getBytes(StandardCharsets.US_ASCII);
+
+    static {
+        String[] results = new String[3];
+        results[Main.TIE] = "tie";
+        results[Main.WIN] = "win";
+        results[Main.LOSE] = "lose";
+        for (int move = 0; move < 3; move++) {
+            MOVE_BYTES[move] = Main.MOVES[move].getBytes(StandardCharsets.US_ASCII);
+            for (int outcome = 0; outcome < 3; outcome++) {
+                REPLIES[move][outcome] = (Main.MOVES[move] + " " + results[outcome] + "\n").getBytes(StandardCharsets.US_ASCII);
+            }
+        }
+    }
+
+    // 📊 Shared stats (player's point of view)
+    final LongAdder sessions = new LongAdder();
+    final LongAdder rounds = new LongAdder();
+    final LongAdder playerWins = new LongAdder();
+    final LongAdder playerLosses = new LongAdder();
+    final LongAdder ties = new LongAdder();
+    final LongAdder invalid = new LongAdder();
+
+    private final ServerSocketChannel server;
+    private final EventLoop[] loops;
+    private final Thread acceptor;
+    private volatile boolean running = true;
+
+    // 🚀 start() – listen on 127.0.0.1:port (0 = any free port) with `loopCount` event loops
+    static GameServer start(int port, int loopCount) throws IOException {
+        return new GameServer(port, loopCount);
+    }
+
+    private GameServer(int port, int loopCount) throws IOException {
+        server = ServerSocketChannel.open();
+        server.bind(new InetSocketAddress("127.0.0.1", port), 4096);
+
+        loops = new EventLoop[loopCount];
+        for (int i = 0; i < loopCount; i++) {
+            loops[i] = new EventLoop();
+            Thread thread = new Thread(loops[i], "rps-loop-" + i);
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        acceptor = new Thread(this::acceptLoop, "rps-acceptor");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    int port() throws IOException {
+        return ((InetSocketAddress) server.getLocalAddress()).getPort();
+    }
+
+    // 🚪 acceptLoop() – blocking accept, then round-robin to the event loops
+    private void acceptLoop() {
+        int next = 0;
+        while (running) {
+            try {
+                SocketChannel channel = server.accept();
+                channel.configureBlocking(false);
+                channel.socket().setTcpNoDelay(true);
+                sessions.increment();
+                loops[next].hand(channel);
+                next = (next + 1) % loops.length;
+            } catch (IOException e) {
+                if (running) {
+                    System.out.println("⚠️ Accept failed: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    // 🖨️ printStats() – add up the striped counters
+    void printStats() {
+        long played = rounds.sum();
+        System.out.println("----------------------------------------------");
+        System.out.printf("👥 Sessions: %,d%n", sessions.sum());
+        System.out.printf("🔁 Rounds:   %,d%n", played);
+        if (played > 0) {
+            System.out.printf("🎉 Player wins:   %6.2f%%%n", 100.0 * playerWins.sum() / played);
+            System.out.printf("💀 Computer wins: %6.2f%%%n", 100.0 * playerLosses.sum() / played);
+            System.out.printf("😐 Ties:          %6.2f%%%n", 100.0 * ties.sum() / played);
+        }
+        System.out.printf("❌ Invalid lines: %,d%n", invalid.sum());
+    }
+
+    @Override
+    public void close() throws IOException {
+        running = false;
+        server.close();
+        for (EventLoop loop : loops) {
+            loop.selector.close();
+        }
+    }
+
+    // 🎮 Session – one connected player: their buffers and their personal predictor
+    static final class Session {
+        final ByteBuffer in = ByteBuffer.allocate(LINE_LIMIT);
+        final ByteBuffer out = ByteBuffer.allocate(LINE_LIMIT * 4);
+        final MarkovPredictor predictor = new MarkovPredictor(Main.COMPUTER_ORDER);
+    }
+
+    // 🔄 EventLoop – one thread, one Selector, many sessions
+    final class EventLoop implements Runnable {
+        final Selector selector;
+        private final Queue<SocketChannel> incoming = new ConcurrentLinkedQueue<>();
+
+        EventLoop() throws IOException {
+            selector = Selector.open();
+        }
+
+        void hand(SocketChannel channel) {
+            incoming.add(channel);
+            selector.wakeup();
+        }
+
+        @Override
+        public void run() {
+            while (running) {
+                try {
+                    selector.select();
+                    SocketChannel channel;
+                    while ((channel = incoming.poll()) != null) {
+                        channel.register(selector, SelectionKey.OP_READ, new Session());
+                    }
+                    for (SelectionKey key : selector.selectedKeys()) {
+                        serve(key);
+                    }
+                    selector.selectedKeys().clear();
+                } catch (IOException | RuntimeException e) {
+                    if (running) {
+                        System.out.println("⚠️ Event loop error: " + e.getMessage());
+                    }
+                }
+            }
+        }
+
+        // 📬 serve() – read what arrived, answer every complete line, write back
+        private void serve(SelectionKey key) {
+            SocketChannel channel = (SocketChannel) key.channel();
+            Session session = (Session) key.attachment();
+            try {
+                if (key.isReadable() && channel.read(session.in) < 0) {
+                    drop(key);
+                    return;
+                }
+                // Answer, write back — and repeat while the socket keeps taking the replies
+                // and complete lines are still waiting in `in` (they were held back when `out` was full)
+                while (true) {
+                    if (!answerLines(session)) {
+                        // Best effort: send the replies that came before "quit", then hang up
+                        session.out.flip();
+                        channel.write(session.out);
+                        drop(key);
+                        return;
+                    }
+                    if (!flush(key, channel, session) || !hasCompleteLine(session.in)) {
+                        return;
+                    }
+                }
+            } catch (IOException e) {
+                drop(key);
+            }
+        }
+
+        // 📥 answerLines() – false when the player said "quit" or sent garbage
+        private boolean answerLines(Session session) {
+            ByteBuffer in = session.in;
+            in.flip();
+            int lineStart = 0;
+            // Stop early if the replies can't fit — the rest waits until the socket drains
+            for (int i = 0; i < in.limit() && session.out.remaining() >= MAX_REPLY; i++) {
+                if (in.get(i) != '\n') {
+                    continue;
+                }
+                int end = i;
+                if (end > lineStart && in.get(end - 1) == '\r') {
+                    end--;
+                }
+                if (matches(in, lineStart, end, QUIT)) {
+                    return false;
+                }
+                playRound(session, moveAt(in, lineStart, end));
+                lineStart = i + 1;
+            }
+            in.position(lineStart);
+            in.compact();
+            // A full buffer with no newline in it is not a move — hang up
+            return in.position() < in.capacity() || session.out.remaining() < MAX_REPLY;
+        }
+
+        // 🤺 playRound() – the console game's rules, for one line of one session
+        private void playRound(Session session, int playerChoice) {
+            if (playerChoice < 0) {
+                invalid.increment();
+                session.out.put(INVALID);
+                return;
+            }
+            int predicted = session.predictor.predict();
+            int computerChoice = predicted < 0 ? ThreadLocalRandom.current().nextInt(3) : Strategy.beats(predicted);
+            session.predictor.record(playerChoice);
+
+            int outcome = Main.OUTCOME[playerChoice][computerChoice];
+            switch (outcome) {
+                case Main.TIE -> ties.increment();
+                case Main.WIN -> playerWins.increment();
+                default -> playerLosses.increment();
+            }
+            rounds.increment();
+            session.out.put(REPLIES[computerChoice][outcome]);
+        }
+
+        // 📤 flush() – write the pending replies; false (and wait for OP_WRITE) if the socket is full
+        private boolean flush(SelectionKey key, SocketChannel channel, Session session) throws IOException {
+            ByteBuffer out = session.out;
+            out.flip();
+            channel.write(out);
+            out.compact();
+            // Nothing more is read until every reply has gone out
+            boolean drained = out.position() == 0;
+            key.interestOps(drained ? SelectionKey.OP_READ : SelectionKey.OP_WRITE);
+            return drained;
+        }
+
+        // 🔎 hasCompleteLine() – is there a whole line in `in` that hasn't been answered yet?
+        private boolean hasCompleteLine(ByteBuffer in) {
+            for (int i = 0; i < in.position(); i++) {
+                if (in.get(i) == '\n') {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void drop(SelectionKey key) {
+            key.cancel();
+            try {
+                key.channel().close();
+            } catch (IOException ignored) {
+                // already gone
+            }
+        }
+    }
+
+    // 🔍 moveAt() – like Main.moveIndex(), straight from the bytes (case-insensitive)
+    static int moveAt(ByteBuffer buffer, int from, int to) {
+        for (int move = 0; move < 3; move++) {
+            if (matches(buffer, from, to, MOVE_BYTES[move])) {
+                return move;
+            }
+        }
+        return -1;
+    }
+
+    static boolean matches(ByteBuffer buffer, int from, int to, byte[] word) {
+        if (to - from != word.length) {
+            return false;
+        }
+        for (int i = 0; i < word.length; i++) {
+            if ((buffer.get(from + i) | 0x20) != word[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,171 @@
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+╔════════════════════════════════════════════════════════════╗
+║      🚦 LOAD GENERATOR — 100,000 PRETEND PLAYERS            ║
+╚════════════════════════════════════════════════════════════╝
+
+➤ Starts a GameServer in this process (or uses one already running on
+  --port) and throws simulated players at it:
+
+    - `clients` players in total, at most `concurrency` of them connected
+      at once (each simulated player is one blocking thread, so this is
+      also the thread count); the peak actually reached is reported
+    - every player connects, plays `rounds` rounds, says "quit" and leaves
+    - every round is timed from sending the move to reading the reply
+
+➤ Every move goes out as ONE write ("rock\n" together), and replies are
+  read through a BufferedInputStream — so the numbers measure the server,
+  not extra packets or one-byte reads on the client side.
+
+➤ Output: rounds/sec, p50 / p99 / max round latency, the peak number of
+  players connected at the same time and the server's stats.
+
+➤ Run:
+    java LoadGenerator [clients] [concurrency] [rounds] [port]
+    java LoadGenerator 100000 5000 10
+*/
+public class LoadGenerator {
+
+    // 📨 "rock\n", "paper\n", "scissors\n" and "quit\n" — each sent with ONE write
+    static final byte[][] MOVE_LINES = new byte[3][];
+    static final byte[] QUIT_LINE = line(GameServer.QUIT);
+
+    static {
+        for (int move = 0; move < 3; move++) {
+            MOVE_LINES[move] = line(GameServer.MOVE_BYTES[move]);
+        }
+    }
+
+    // 🔌 Players connected right now, and the most there ever were at once
+    static final AtomicInteger connected = new AtomicInteger();
+    static final AtomicInteger peakConnected = new AtomicInteger();
+
+    public static void main(String[] args) throws Exception {
+
+        int clients = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 5_000;
+        int rounds = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+        int port = args.length > 3 ? Integer.parseInt(args[3]) : 0;
+
+        if (clients < 1 || concurrency < 1 || rounds < 1) {
+            throw new IllegalArgumentException("clients, concurrency and rounds must be positive");
+        }
+        if ((long) clients * rounds > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Too many rounds to time: " + (long) clients * rounds);
+        }
+
+        // 🌐 No port given → run our own server, one event loop per core
+        GameServer server = port == 0 ? GameServer.start(0, Runtime.getRuntime().availableProcessors()) : null;
+        InetSocketAddress address = new InetSocketAddress("127.0.0.1", server != null ? server.port() : port);
+
+        // ⏱️ latencies[client * rounds + round] in nanoseconds — each slot written by one player only
+        long[] latencies = new long[clients * rounds];
+        LongAdder failures = new LongAdder();
+
+        // 🌱 One generator per player, split in a fixed order so the moves are repeatable
+        SplittableRandom root = new SplittableRandom(42);
+
+        System.out.println("==============================================");
+        System.out.println("          🚦 RPS SERVER LOAD TEST");
+        System.out.println("==============================================");
+        System.out.printf("👥 %,d players, at most %,d connected at a time, %,d rounds each → %s%n", clients, concurrency, rounds, address);
+
+        ExecutorService players = Executors.newFixedThreadPool(concurrency);
+        long start = System.nanoTime();
+        for (int c = 0; c < clients; c++) {
+            int client = c;
+            SplittableRandom random = root.split();
+            players.execute(() -> {
+                try {
+                    play(address, rounds, random, latencies, client * rounds);
+                } catch (IOException e) {
+                    failures.increment();
+                }
+            });
+        }
+        players.shutdown();
+        players.awaitTermination(1, TimeUnit.DAYS);
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        printReport(latencies, seconds, failures.sum());
+        System.out.printf("🔗 Peak players connected at once: %,d%n", peakConnected.get());
+        if (server != null) {
+            server.printStats();
+            server.close();
+        }
+        System.out.println("==============================================");
+    }
+
+    // 🎮 play() – one simulated player: connect, play every round, quit
+    static void play(InetSocketAddress address, int rounds, SplittableRandom random, long[] latencies, int slot) throws IOException {
+        try (Socket socket = new Socket()) {
+            socket.setTcpNoDelay(true);
+            // Reset instead of lingering in TIME_WAIT, so 100k short connections don't run out of ports
+            socket.setSoLinger(true, 0);
+            socket.connect(address);
+            peakConnected.accumulateAndGet(connected.incrementAndGet(), Math::max);
+            try {
+                OutputStream out = socket.getOutputStream();
+                InputStream in = new BufferedInputStream(socket.getInputStream(), GameServer.LINE_LIMIT);
+
+                for (int r = 0; r < rounds; r++) {
+                    byte[] move = MOVE_LINES[random.nextInt(3)];
+                    long sent = System.nanoTime();
+                    out.write(move);
+                    readLine(in);
+                    latencies[slot + r] = System.nanoTime() - sent;
+                }
+                out.write(QUIT_LINE);
+            } finally {
+                connected.decrementAndGet();
+            }
+        }
+    }
+
+    private static byte[] line(byte[] text) {
+        byte[] line = Arrays.copyOf(text, text.length + 1);
+        line[text.length] = '\n';
+        return line;
+    }
+
+    // 📥 readLine() – skip one reply line
+    static void readLine(InputStream in) throws IOException {
+        int b;
+        while ((b = in.read()) != '\n') {
+            if (b < 0) {
+                throw new IOException("Server hung up");
+            }
+        }
+    }
+
+    // 🖨️ printReport() – throughput and latency percentiles of the rounds that completed
+    static void printReport(long[] latencies, double seconds, long failures) {
+        long[] done = Arrays.stream(latencies).filter(l -> l > 0).sorted().toArray();
+        System.out.println("----------------------------------------------");
+        System.out.printf("🔁 %,d rounds in %.2fs → %,.0f rounds/sec%n", done.length, seconds, done.length / seconds);
+        if (done.length > 0) {
+            System.out.printf("⏱️ p50: %,8.1f µs%n", percentile(done, 0.50) / 1_000.0);
+            System.out.printf("⏱️ p99: %,8.1f µs%n", percentile(done, 0.99) / 1_000.0);
+            System.out.printf("⏱️ max: %,8.1f µs%n", done[done.length - 1] / 1_000.0);
+        }
+        System.out.printf("⚠️ Failed players: %,d%n", failures);
+    }
+
+    static long percentile(long[] sorted, double p) {
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, index)];
+    }
+}
@@ -2,7 +2,59 @@ import java.util.Random;
 import java.util.Scanner;
 
 public class Main {
-    public static void main(String[] args){
+
+    /*
+    ╔════════════════════════════════════════════════╗
+    ║        🔢 MOVES AS NUMBERS + OUTCOME TABLE      ║
+    ╚════════════════════════════════════════════════╝
+    ➤ rock = 0, paper = 1, scissors = 2
+    ➤ OUTCOME[player][opponent] answers "who wins?" with one array
+      lookup instead of a chain of String.equals() checks.
+    */
+    static final String[] MOVES = {"rock", "paper", "scissors"};
+    static final int ROCK = 0, PAPER = 1, SCISSORS = 2;
+
+    static final int TIE = 0, WIN = 1, LOSE = 2;
+    static final int[][] OUTCOME = {
+            //          rock  paper  scissors   ← opponent
+            /* rock     */ {TIE,  LOSE,  WIN},
+            /* paper    */ {WIN,  TIE,   LOSE},
+            /* scissors */ {LOSE, WIN,   TIE}
+    };
+
+    // 🔮 How many of your previous moves the computer looks at
+    static final int COMPUTER_ORDER = 2;
+
+    // 🔍 moveIndex() – "paper" → 1, or -1 if it isn't a move
+    static int moveIndex(String move) {
+        for (int i = 0; i < MOVES.length; i++) {
+            if (MOVES[i].equals(move)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public static void main(String[] args) throws java.io.IOException {
+
+        // 🏟️ Headless mode: java Main --tournament <rounds> <seed>  (see Tournament.java)
+        if (args.length == 3 && args[0].equals("--tournament")) {
+            Tournament.run(Long.parseLong(args[1]), Long.parseLong(args[2]));
+            return;
+        }
+
+        // 🌐 Server mode: java Main --serve <port>  (see GameServer.java, LoadGenerator.java)
+        if (args.length == 2 && args[0].equals("--serve")) {
+            GameServer server = GameServer.start(Integer.parseInt(args[1]), Runtime.getRuntime().availableProcessors());
+            Runtime.getRuntime().addShutdownHook(new Thread(server::printStats));
+            System.out.println("🌐 Listening on 127.0.0.1:" + server.port() + " (Ctrl+C to stop)");
+            try {
+                Thread.currentThread().join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return;
+        }
 
         /*
         ╔════════════════════════════════════════════════╗
@@ -21,12 +73,12 @@ public class Main {
         // 🎲 CREATE RANDOM OBJECT FOR COMPUTER MOVE
         Random random = new Random();
 
-        // 📦 AVAILABLE CHOICES
-        String[] choices = {"rock", "paper", "scissors"};
+        // 🔮 The computer learns your habits (see MarkovPredictor.java)
+        MarkovPredictor predictor = new MarkovPredictor(COMPUTER_ORDER);
 
-        // 🎮 VARIABLES TO STORE CHOICES
-        String playerChoice;
-        String computerChoice;
+        // 🎮 VARIABLES TO STORE CHOICES (as move numbers, see MOVES)
+        int playerChoice;
+        int computerChoice;
 
         // 🔁 Loop controller for replaying game
         String playAgain = "yes";
@@ -39,19 +91,19 @@ public class Main {
         do{
             // 🎤 GET PLAYER INPUT
             System.out.print("Enter your move (rock, paper, scissors): ");
-            playerChoice = scanner.nextLine().toLowerCase();
+            playerChoice = moveIndex(scanner.nextLine().toLowerCase());
 
             // ❌ HANDLE INVALID CHOICE
-            if(!playerChoice.equals("rock") &&
-                    !playerChoice.equals("paper") &&
-                    !playerChoice.equals("scissors")) {
+            if(playerChoice < 0) {
                 System.out.println("❌ Invalid Choice! Try again.");
                 continue; // go back to start of loop
             }
 
-            // 🎲 GET COMPUTER CHOICE RANDOMLY
-            computerChoice = choices[random.nextInt(3)];
-            System.out.println("Computer choice: " + computerChoice);
+            // 🔮 GET COMPUTER CHOICE: beat your likeliest move, or random while it's still learning
+            int predicted = predictor.predict();
+            computerChoice = predicted < 0 ? random.nextInt(3) : Strategy.beats(predicted);
+            predictor.record(playerChoice);
+            System.out.println("Computer choice: " + MOVES[computerChoice]);
 
             /*
             ╔═══════════════════════════════════════════════╗
@@ -59,21 +111,10 @@ public class Main {
             ╚═══════════════════════════════════════════════╝
             */
 
-            if(playerChoice.equals(computerChoice)){
-                // ➖ Tie condition
-                System.out.println("😐 It's a tie!");
-            }
-            else if(
-                    (playerChoice.equals("rock") && computerChoice.equals("scissors")) ||
-                            (playerChoice.equals("paper") && computerChoice.equals("rock")) ||
-                            (playerChoice.equals("scissors") && computerChoice.equals("paper"))
-            ){
-                // ✅ Win condition
-                System.out.println("🎉 You win!");
-            }
-            else{
-                // ❌ Lose condition
-                System.out.println("💀 You lose!");
+            switch (OUTCOME[playerChoice][computerChoice]) {
+                case TIE -> System.out.println("😐 It's a tie!");  // ➖ Tie condition
+                case WIN -> System.out.println("🎉 You win!");     // ✅ Win condition
+                default -> System.out.println("💀 You lose!");     // ❌ Lose condition
             }
 
             // 🔁 ASK TO PLAY AGAIN
@@ -0,0 +1,80 @@
+/*
+╔════════════════════════════════════════════════╗
+║     🔮 MARKOV PREDICTOR — GUESS THE NEXT MOVE    ║
+╚════════════════════════════════════════════════╝
+
+➤ People are bad at being random. After playing "rock, rock" many players
+  switch to paper, and so on. An ORDER-k Markov model remembers:
+
+      "after these last k moves, what did the player play next?"
+
+  and predicts the most common answer.
+
+📌 Compact and O(1):
+    - The last k moves are packed into ONE number (the context):
+          context = m₁·3^(k-1) + … + mₖ      (0 … 3^k − 1)
+      Sliding in a new move is just (context · 3 + move) mod 3^k.
+    - counts[context · 3 + next] is a 16-bit char, so the whole model is
+      2 · 3^(k+1) bytes — order 4 fits in 486 bytes — no matter how long
+      the game lasts.
+    - When a counter would overflow, that context's three counters are
+      halved, which also lets the model slowly forget old habits.
+*/
+public class MarkovPredictor {
+
+    final int order;
+    private final int contexts;     // 3^order
+    private final char[] counts;    // counts[context * 3 + nextMove]
+    private int context;            // the last `order` moves, packed
+    private int seen;               // moves recorded so far (stops growing at `order`)
+
+    MarkovPredictor(int order) {
+        if (order < 1 || order > 12) {
+            throw new IllegalArgumentException("Order must be between 1 and 12");
+        }
+        this.order = order;
+        int size = 1;
+        for (int i = 0; i < order; i++) {
+            size *= 3;
+        }
+        this.contexts = size;
+        this.counts = new char[contexts * 3];
+    }
+
+    // 🔮 predict() – the move the player most likely plays next, or -1 if we have no idea yet
+    int predict() {
+        if (seen < order) {
+            return -1;
+        }
+        int base = context * 3;
+        int best = 0;
+        for (int move = 1; move < 3; move++) {
+            if (counts[base + move] > counts[base + best]) {
+                best = move;
+            }
+        }
+        return counts[base + best] == 0 ? -1 : best;
+    }
+
+    // ✍️ record() – learn the move the player just made
+    void record(int move) {
+        if (seen >= order) {
+            int index = context * 3 + move;
+            if (counts[index] == Character.MAX_VALUE) {
+                int base = context * 3;
+                for (int i = base; i < base + 3; i++) {
+                    counts[i] >>= 1;
+                }
+            }
+            counts[index]++;
+        } else {
+            seen++;
+        }
+        context = (context * 3 + move) % contexts;
+    }
+
+    // 📏 memoryBytes() – how big the count table is
+    int memoryBytes() {
+        return counts.length * Character.BYTES;
+    }
+}
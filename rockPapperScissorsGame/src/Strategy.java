@@ -0,0 +1,94 @@
+import java.util.random.RandomGenerator;
+
+/*
+╔════════════════════════════════════════════════╗
+║        🤖 STRATEGY — HOW A BOT PICKS ITS MOVE    ║
+╚════════════════════════════════════════════════╝
+
+➤ Every bot answers two questions each round:
+    1️⃣ nextMove()  – what do I play? (0 = rock, 1 = paper, 2 = scissors)
+    2️⃣ observe()   – here is what both of us played, learn from it
+
+➤ Bots only ever see move NUMBERS, never Strings, so a round is a few
+  array reads and nothing gets allocated.
+*/
+interface Strategy {
+
+    int nextMove(RandomGenerator random);
+
+    void observe(int myMove, int opponentMove);
+
+    // 🏆 beats() – the move that beats `move` (rock → paper → scissors → rock)
+    static int beats(int move) {
+        return (move + 1) % 3;
+    }
+
+    // 🎲 Plays a random move every round, just like the original computer
+    final class RandomBot implements Strategy {
+        @Override
+        public int nextMove(RandomGenerator random) {
+            return random.nextInt(3);
+        }
+
+        @Override
+        public void observe(int myMove, int opponentMove) {
+        }
+    }
+
+    // 🔁 Plays rock, paper, scissors, rock, ... (easy to exploit)
+    final class CycleBot implements Strategy {
+        private int next;
+
+        @Override
+        public int nextMove(RandomGenerator random) {
+            int move = next;
+            next = (next + 1) % 3;
+            return move;
+        }
+
+        @Override
+        public void observe(int myMove, int opponentMove) {
+        }
+    }
+
+    // 📊 Counts the opponent's moves and plays whatever beats their favourite
+    final class FrequencyBot implements Strategy {
+        private final long[] counts = new long[3];
+
+        @Override
+        public int nextMove(RandomGenerator random) {
+            int favourite = 0;
+            for (int move = 1; move < 3; move++) {
+                if (counts[move] > counts[favourite]) {
+                    favourite = move;
+                }
+            }
+            return counts[favourite] == 0 ? random.nextInt(3) : beats(favourite);
+        }
+
+        @Override
+        public void observe(int myMove, int opponentMove) {
+            counts[opponentMove]++;
+        }
+    }
+
+    // 🔗 Remembers what the opponent played after their last `order` moves and plays to beat the likeliest next one
+    final class MarkovBot implements Strategy {
+        private final MarkovPredictor predictor;
+
+        MarkovBot(int order) {
+            predictor = new MarkovPredictor(order);
+        }
+
+        @Override
+        public int nextMove(RandomGenerator random) {
+            int likeliest = predictor.predict();
+            return likeliest < 0 ? random.nextInt(3) : beats(likeliest);
+        }
+
+        @Override
+        public void observe(int myMove, int opponentMove) {
+            predictor.record(opponentMove);
+        }
+    }
+}
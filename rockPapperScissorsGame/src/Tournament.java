@@ -0,0 +1,107 @@
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/*
+╔════════════════════════════════════════════════╗
+║      🏟️ TOURNAMENT — BOTS vs BOTS, NO KEYBOARD    ║
+╚════════════════════════════════════════════════╝
+
+➤ Every bot plays every other bot for `rounds` rounds (round robin).
+➤ Each match runs on its own core (parallel stream) with its own
+  SplittableRandom split from the seed, so the same seed → same results.
+➤ Winners are decided with Main.OUTCOME — the same 3x3 table the game uses.
+
+➤ Output:
+    - rounds per second
+    - a win-rate matrix: row bot's wins against the column bot
+*/
+public class Tournament {
+
+    static final String[] NAMES = {"Random", "Cycle", "Frequency", "Markov-1", "Markov-3"};
+
+    static final List<Supplier<Strategy>> BOTS = List.of(
+            Strategy.RandomBot::new,
+            Strategy.CycleBot::new,
+            Strategy.FrequencyBot::new,
+            () -> new Strategy.MarkovBot(1),
+            () -> new Strategy.MarkovBot(3)
+    );
+
+    // 🚀 run() – play the whole round robin and print the results
+    static void run(long rounds, long seed) {
+        int bots = BOTS.size();
+        int[][] pairs = new int[bots * (bots - 1) / 2][];
+        for (int a = 0, p = 0; a < bots; a++) {
+            for (int b = a + 1; b < bots; b++) {
+                pairs[p++] = new int[]{a, b};
+            }
+        }
+
+        // 🌱 One generator per match, split in a fixed order
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] generators = new SplittableRandom[pairs.length];
+        for (int p = 0; p < pairs.length; p++) {
+            generators[p] = root.split();
+        }
+
+        long start = System.nanoTime();
+        long[][] results = IntStream.range(0, pairs.length)
+                .parallel()
+                .mapToObj(p -> playMatch(BOTS.get(pairs[p][0]).get(), BOTS.get(pairs[p][1]).get(), rounds, generators[p]))
+                .toArray(long[][]::new);
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        // 📋 winRate[a][b] = share of rounds bot a won against bot b
+        double[][] winRate = new double[bots][bots];
+        for (int p = 0; p < pairs.length; p++) {
+            int a = pairs[p][0], b = pairs[p][1];
+            winRate[a][b] = (double) results[p][Main.WIN] / rounds;
+            winRate[b][a] = (double) results[p][Main.LOSE] / rounds;
+        }
+
+        printReport(rounds * pairs.length, seconds, winRate);
+    }
+
+    // 🤺 playMatch() – counts[TIE/WIN/LOSE] from the first bot's point of view
+    static long[] playMatch(Strategy first, Strategy second, long rounds, SplittableRandom random) {
+        long[] counts = new long[3];
+        for (long r = 0; r < rounds; r++) {
+            int a = first.nextMove(random);
+            int b = second.nextMove(random);
+            counts[Main.OUTCOME[a][b]]++;
+            first.observe(a, b);
+            second.observe(b, a);
+        }
+        return counts;
+    }
+
+    // 🖨️ printReport() – speed and the win-rate matrix
+    static void printReport(long totalRounds, double seconds, double[][] winRate) {
+        System.out.println("==============================================");
+        System.out.println("          🏟️ ROCK PAPER SCISSORS TOURNAMENT");
+        System.out.println("==============================================");
+        System.out.printf("🔁 %,d rounds in %.2fs → %,.0f rounds/sec%n", totalRounds, seconds, totalRounds / seconds);
+        System.out.println("----------------------------------------------");
+        System.out.println("Win rate of ROW bot against COLUMN bot:");
+
+        System.out.printf("%-10s", "");
+        for (String name : NAMES) {
+            System.out.printf("%11s", name);
+        }
+        System.out.println();
+        for (int a = 0; a < NAMES.length; a++) {
+            System.out.printf("%-10s", NAMES[a]);
+            for (int b = 0; b < NAMES.length; b++) {
+                if (a == b) {
+                    System.out.printf("%11s", "—");
+                } else {
+                    System.out.printf("%10.2f%%", winRate[a][b] * 100);
+                }
+            }
+            System.out.println();
+        }
+        System.out.println("==============================================");
+    }
+}
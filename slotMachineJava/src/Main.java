@@ -1,8 +1,33 @@
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Random;
 import java.util.Scanner;
 
 public class Main {
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
+
+        // ⚙️ Optional machine file: java Main --config machines/fiveReel.slot  (see SlotMachine.java)
+        if (args.length == 2 && args[0].equals("--config")) {
+            machine = SlotMachine.load(Path.of(args[1]));
+        }
+
+        // 📐 Exact analysis: java Main --analyze [machine file]  (see SlotAnalyzer.java)
+        if ((args.length == 1 || args.length == 2) && args[0].equals("--analyze")) {
+            if (args.length == 2) {
+                machine = SlotMachine.load(Path.of(args[1]));
+            }
+            SlotAnalyzer.run(machine);
+            return;
+        }
+
+        // 📊 Headless mode: java Main --simulate <spins> <seed> [machine file]  (see SlotSimulator.java)
+        if ((args.length == 3 || args.length == 4) && args[0].equals("--simulate")) {
+            if (args.length == 4) {
+                machine = SlotMachine.load(Path.of(args[3]));
+            }
+            SlotSimulator.run(machine, Long.parseLong(args[1]), Long.parseLong(args[2]));
+            return;
+        }
 
         /*
          ╔════════════════════════════════════════════════════╗
@@ -23,13 +48,13 @@ public class Main {
         int balance = 100; // starting balance
         int bet;           // amount user bets each round
         int payout;        // amount won
-        String[] row;      // result of the spin
+        int[] stops = new int[machine.reels]; // where each reel stopped (reused every spin)
         String playAgain;  // Y/N for replay
 
         // 👋 Welcome Message
         System.out.println("==========================");
         System.out.println("   🎰 Welcome to Java Slots ");
-        System.out.println("   Symbols: 🍒 🍉 🥭 🔔 ⭐ ");
+        System.out.println("   Symbols: " + String.join(" ", machine.symbols) + " ");
         System.out.println("==========================");
 
         /*
@@ -59,9 +84,9 @@ public class Main {
 
             // 🎲 SPIN THE SLOT MACHINE
             System.out.println("Spinning...");
-            row = spinRow();          // generates random symbols
-            printRow(row);            // display symbols
-            payout = getPayout(row, bet); // calculate payout based on match
+            spinRow(stops);           // generates random symbols
+            printRow(stops);          // display symbols
+            payout = getPayout(stops, bet); // calculate payout based on match
 
             // 🎉 HANDLE RESULTS
             if (payout > 0) {
@@ -90,61 +115,26 @@ public class Main {
         scanner.close();
     }
 
-    // 🔁 SPINNING FUNCTION — generates a row of 3 random symbols
-    static String[] spinRow() {
-        String[] symbols = {"🍒", "🍉", "🥭", "🔔", "⭐"};
-        String[] row = new String[3];
-        Random random = new Random();
+    // ⚙️ The machine being played — its reels, paylines and pay table (see SlotMachine.java)
+    static SlotMachine machine = SlotMachine.classic();
 
-        for (int i = 0; i < 3; i++) {
-            row[i] = symbols[random.nextInt(symbols.length)];
-        }
-        return row;
+    // 🎲 One Random shared by every spin (instead of a new one each time)
+    static final Random random = new Random();
+
+    // 🔁 SPINNING FUNCTION — picks where every reel stops
+    static void spinRow(int[] stops) {
+        machine.spin(random, stops);
     }
 
     // 🖨️ DISPLAY ROW NICELY FORMATTED
-    static void printRow(String[] row) {
+    static void printRow(int[] stops) {
         System.out.println("**************");
-        System.out.println(" " + String.join(" | ", row));
+        System.out.print(machine.render(stops));
         System.out.println("**************");
     }
 
-    // 💰 CALCULATE PAYOUT BASED ON MATCHED SYMBOLS
-    static int getPayout(String[] row, int bet) {
-        // 🎯 All 3 symbols match
-        if (row[0].equals(row[1]) && row[0].equals(row[2])) {
-            return switch (row[0]) {
-                case "🍒" -> bet * 3;
-                case "🍉" -> bet * 4;
-                case "🥭" -> bet * 5;
-                case "🔔" -> bet * 10;
-                case "⭐" -> bet * 20;
-                default -> 0;
-            };
-        }
-        // 🎯 First 2 symbols match
-        else if (row[0].equals(row[1])) {
-            return switch (row[0]) {
-                case "🍒" -> bet * 2;
-                case "🍉" -> bet * 3;
-                case "🥭" -> bet * 4;
-                case "🔔" -> bet * 5;
-                case "⭐" -> bet * 10;
-                default -> 0;
-            };
-        }
-        // 🎯 Last 2 symbols match
-        else if (row[1].equals(row[2])) {
-            return switch (row[1]) {
-                case "🍒" -> bet * 2;
-                case "🍉" -> bet * 3;
-                case "🥭" -> bet * 4;
-                case "🔔" -> bet * 5;
-                case "⭐" -> bet * 10;
-                default -> 0;
-            };
-        }
-        // 🚫 No matches
-        return 0;
+    // 💰 CALCULATE PAYOUT BASED ON MATCHED SYMBOLS (all paylines, using the compiled pay table)
+    static int getPayout(int[] stops, int bet) {
+        return machine.evaluate(stops) * bet;
     }
 }
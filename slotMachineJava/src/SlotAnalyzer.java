@@ -0,0 +1,260 @@
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/*
+╔════════════════════════════════════════════════════════════╗
+║        📐 SLOT ANALYZER — EXACT RTP BY ENUMERATION           ║
+╚════════════════════════════════════════════════════════════╝
+
+➤ The simulator ESTIMATES the RTP by sampling. The analyzer COUNTS every
+  possible outcome, so the answer is exact (a fraction, not a guess).
+
+📌 Trick 1 — group stops by symbol
+    A payline only cares WHICH symbol is on each reel, not which stop it
+    came from. A reel with 138 stops but only 8 symbols becomes 8 groups
+    with counts. So a 5-reel machine needs 8⁵ = 32,768 checks instead of
+    138⁵ ≈ 50 billion. Each symbol combination is weighted by the product
+    of its counts and looked up in the compiled pay table.
+
+📌 Trick 2 — every payline has the same odds
+    Every reel stop is equally likely, so the symbol on ANY row of a reel
+    has the same distribution. The expected payout of the whole spin is
+    therefore (number of paylines) × (expected payout of one payline).
+
+📌 Hit frequency per spin ("did ANY payline pay?") depends on how the
+   paylines overlap, so for multi-line machines we enumerate every distinct
+   visible window per reel — but only when that stays small enough.
+
+📌 Work is split across all cores with parallel streams.
+*/
+public class SlotAnalyzer {
+
+    // 📏 Largest window enumeration we attempt for per-spin hit frequency
+    static final long MAX_WINDOW_COMBINATIONS = 200_000_000L;
+
+    // 🚀 run() – analyze a machine and print the report
+    static void run(SlotMachine machine) {
+        long start = System.nanoTime();
+
+        // 🔢 Total number of equally likely spins = product of reel lengths
+        long totalStops = 1;
+        for (byte[] strip : machine.strips) {
+            totalStops = Math.multiplyExact(totalStops, strip.length);
+        }
+
+        long[] ruleWeights = payLineWeights(machine);
+        long[] spinWeights = machine.paylines.length == 1 ? null : spinHitWeights(machine);
+
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        printReport(machine, totalStops, ruleWeights, spinWeights, seconds);
+    }
+
+    // 🧮 payLineWeights() – for ONE payline: weights[rule] = number of spins won by that rule
+    //                       (the last slot counts spins where no rule matched)
+    static long[] payLineWeights(SlotMachine machine) {
+        int reels = machine.reels;
+        int symbolCount = machine.symbols.length;
+        int rules = machine.multipliers.length;
+
+        // 📊 counts[reel][symbol] = how many stops on that reel show the symbol
+        long[][] counts = new long[reels][symbolCount];
+        for (int r = 0; r < reels; r++) {
+            for (byte symbol : machine.strips[r]) {
+                counts[r][symbol]++;
+            }
+        }
+
+        return IntStream.range(0, machine.combinations)
+                .parallel()
+                .collect(() -> new long[rules + 1],
+                        (weights, code) -> {
+                            long weight = 1;
+                            int rest = code;
+                            for (int r = 0; r < reels && weight != 0; r++) {
+                                weight *= counts[r][rest % symbolCount];
+                                rest /= symbolCount;
+                            }
+                            int rule = machine.ruleTable[code];
+                            weights[rule < 0 ? rules : rule] += weight;
+                        },
+                        SlotAnalyzer::add);
+    }
+
+    // 🎯 spinHitWeights() – {spins where at least one payline paid}, or null if too many to enumerate
+    static long[] spinHitWeights(SlotMachine machine) {
+        int reels = machine.reels;
+        int rows = machine.rows;
+
+        // 🪟 Group each reel's stops by the window of symbols they show
+        List<int[][]> windowCodes = new ArrayList<>(); // [reel][window][row] = symbol * S^reel
+        List<long[]> windowCounts = new ArrayList<>(); // [reel][window] = how many stops show it
+        long combinations = 1;
+        for (int r = 0; r < reels; r++) {
+            Map<String, Integer> index = new HashMap<>();
+            List<int[]> codes = new ArrayList<>();
+            List<Long> counts = new ArrayList<>();
+            for (int stop = 0; stop < machine.strips[r].length; stop++) {
+                int[] window = Arrays.copyOfRange(machine.weighted[r], stop * rows, stop * rows + rows);
+                String key = Arrays.toString(window);
+                Integer w = index.get(key);
+                if (w == null) {
+                    index.put(key, codes.size());
+                    codes.add(window);
+                    counts.add(1L);
+                } else {
+                    counts.set(w, counts.get(w) + 1);
+                }
+            }
+            windowCodes.add(codes.toArray(new int[0][]));
+            windowCounts.add(counts.stream().mapToLong(Long::longValue).toArray());
+
+            combinations *= codes.size();
+            if (combinations > MAX_WINDOW_COMBINATIONS) {
+                return null; // 🚫 too many to enumerate in a reasonable time
+            }
+        }
+
+        int[][][] windows = windowCodes.toArray(new int[0][][]);
+        long[][] weights = windowCounts.toArray(new long[0][]);
+
+        // 🔁 Parallel over the first reel's windows, odometer over the rest
+        return IntStream.range(0, windows[0].length)
+                .parallel()
+                .collect(() -> new long[1],
+                        (result, first) -> {
+                            int[] pick = new int[reels];
+                            pick[0] = first;
+                            while (true) {
+                                long weight = 1;
+                                for (int r = 0; r < reels; r++) {
+                                    weight *= weights[r][pick[r]];
+                                }
+
+                                int payout = 0;
+                                for (int[] line : machine.paylines) {
+                                    int code = 0;
+                                    for (int r = 0; r < reels; r++) {
+                                        code += windows[r][pick[r]][line[r]];
+                                    }
+                                    payout += machine.payTable[code];
+                                }
+                                if (payout > 0) {
+                                    result[0] += weight;
+                                }
+
+                                // ⏭️ Advance reels 1..N-1 like a car odometer
+                                int r = reels - 1;
+                                while (r > 0 && ++pick[r] == windows[r].length) {
+                                    pick[r] = 0;
+                                    r--;
+                                }
+                                if (r == 0) {
+                                    break;
+                                }
+                            }
+                        },
+                        SlotAnalyzer::add);
+    }
+
+    // ➕ add() – adds counters b into counters a
+    static void add(long[] a, long[] b) {
+        for (int i = 0; i < a.length; i++) {
+            a[i] += b[i];
+        }
+    }
+
+    // 🖨️ printReport() – exact RTP, hit frequency and per-symbol contribution
+    static void printReport(SlotMachine machine, long totalStops, long[] ruleWeights, long[] spinWeights,
+                            double seconds) {
+        int rules = machine.multipliers.length;
+        int lines = machine.paylines.length;
+        BigInteger denominator = BigInteger.valueOf(totalStops);
+
+        // 💰 RTP = lines × Σ (rule weight × multiplier) / total stops
+        BigInteger rtpNumerator = BigInteger.ZERO;
+        BigInteger[] symbolNumerators = new BigInteger[machine.symbols.length];
+        Arrays.fill(symbolNumerators, BigInteger.ZERO);
+        long lineHits = 0;
+        for (int rule = 0; rule < rules; rule++) {
+            BigInteger value = BigInteger.valueOf(ruleWeights[rule])
+                    .multiply(BigInteger.valueOf(machine.multipliers[rule]))
+                    .multiply(BigInteger.valueOf(lines));
+            rtpNumerator = rtpNumerator.add(value);
+            int symbol = keySymbol(machine.patterns[rule]);
+            if (symbol >= 0) {
+                symbolNumerators[symbol] = symbolNumerators[symbol].add(value);
+            }
+            if (machine.multipliers[rule] > 0) {
+                lineHits += ruleWeights[rule];
+            }
+        }
+
+        System.out.println("==========================");
+        System.out.println("   📐 EXACT SLOT ANALYSIS");
+        System.out.println("==========================");
+        StringBuilder lengths = new StringBuilder();
+        for (byte[] strip : machine.strips) {
+            lengths.append(' ').append(strip.length);
+        }
+        System.out.printf("🎰 %d reels × %d rows, %d paylines, stops per reel:%s%n",
+                machine.reels, machine.rows, lines, lengths);
+        System.out.printf("🔢 %,d reel-stop combinations, grouped into %,d symbol combinations%n",
+                totalStops, machine.combinations);
+        System.out.printf("💰 RTP: %s  (= %s)%n", decimal(rtpNumerator, denominator), fraction(rtpNumerator, denominator));
+        System.out.printf("🎯 Hit frequency per payline: %s%n",
+                decimal(BigInteger.valueOf(lineHits), denominator));
+
+        if (lines == 1) {
+            System.out.printf("🎯 Hit frequency per spin:    %s%n", decimal(BigInteger.valueOf(lineHits), denominator));
+        } else if (spinWeights != null) {
+            System.out.printf("🎯 Hit frequency per spin:    %s%n", decimal(BigInteger.valueOf(spinWeights[0]), denominator));
+        } else {
+            System.out.println("🎯 Hit frequency per spin:    skipped (too many distinct reel windows to enumerate)");
+        }
+
+        System.out.println("--------------------------");
+        System.out.println(" Symbol | RTP contribution | Share");
+        for (int s = 0; s < machine.symbols.length; s++) {
+            if (symbolNumerators[s].signum() > 0) {
+                double share = rtpNumerator.signum() == 0 ? 0
+                        : symbolNumerators[s].doubleValue() / rtpNumerator.doubleValue();
+                System.out.printf("   %s   | %16s | %5.1f%%%n",
+                        machine.symbols[s], decimal(symbolNumerators[s], denominator), share * 100);
+            }
+        }
+        System.out.println("--------------------------");
+        System.out.printf("⏱️ %.3fs%n", seconds);
+        System.out.println("==========================");
+    }
+
+    // 🔑 keySymbol() – the symbol a pay rule is "about" (its first non-wildcard symbol)
+    static int keySymbol(int[] pattern) {
+        for (int symbol : pattern) {
+            if (symbol != SlotMachine.WILDCARD) {
+                return symbol;
+            }
+        }
+        return -1;
+    }
+
+    static String decimal(BigInteger numerator, BigInteger denominator) {
+        return new BigDecimal(numerator).divide(new BigDecimal(denominator), MathContext.DECIMAL64)
+                .setScale(10, RoundingMode.HALF_EVEN).toPlainString();
+    }
+
+    static String fraction(BigInteger numerator, BigInteger denominator) {
+        BigInteger gcd = numerator.gcd(denominator);
+        if (gcd.signum() == 0) {
+            return "0";
+        }
+        return numerator.divide(gcd) + "/" + denominator.divide(gcd);
+    }
+}
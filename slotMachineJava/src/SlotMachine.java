@@ -0,0 +1,361 @@
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/*
+╔════════════════════════════════════════════════════════════╗
+║        ⚙️ SLOT MACHINE ENGINE — DATA-DRIVEN PAY TABLES       ║
+╚════════════════════════════════════════════════════════════╝
+
+➤ A machine is described by a small text file instead of switch statements:
+
+        # 🎰 lines starting with # are comments
+        symbols 🍒 🍉 🥭 🔔 ⭐
+        rows 1
+        reel 🍒:3 🍉:2 🥭 🔔 ⭐      ← one "reel" line per reel (symbol:weight repeats it)
+        reel 🍒 🍉 🥭 🔔 ⭐
+        reel 🍒 🍉 🥭 🔔 ⭐
+        line 0 0 0                  ← a payline: which row to read on each reel
+        pay ⭐ ⭐ ⭐ 20              ← first matching pattern wins
+        pay ⭐ ⭐ * 10              ← * matches any symbol
+        pay * ⭐ ⭐ 10
+
+➤ N reels × M rows, any number of paylines, weighted reel strips.
+
+📌 Compiled once at startup into flat arrays:
+    - Every possible combination of symbols on a payline gets a number
+      (code = s0 + s1·S + s2·S² + ...), and payTable[code] holds its
+      multiplier. Matching patterns happens ONCE, here — never during a spin.
+    - Each reel stores symbol·S^reel for every (stop, row) up front, so a
+      payline's code is just a sum of array reads.
+    👉 Scoring a payline costs the same no matter how many pay patterns
+       there are, and the spin itself never allocates.
+*/
+public class SlotMachine {
+
+    // 📏 Largest pay table we are willing to build (symbols ^ reels entries)
+    static final int MAX_COMBINATIONS = 1 << 24;
+
+    // 🎰 The original game: 3 reels, 1 row, 1 payline, 5 equally likely symbols
+    static final String CLASSIC = """
+            symbols 🍒 🍉 🥭 🔔 ⭐
+            rows 1
+            reel 🍒 🍉 🥭 🔔 ⭐
+            reel 🍒 🍉 🥭 🔔 ⭐
+            reel 🍒 🍉 🥭 🔔 ⭐
+            line 0 0 0
+            pay 🍒 🍒 🍒 3
+            pay 🍉 🍉 🍉 4
+            pay 🥭 🥭 🥭 5
+            pay 🔔 🔔 🔔 10
+            pay ⭐ ⭐ ⭐ 20
+            pay 🍒 🍒 * 2
+            pay 🍉 🍉 * 3
+            pay 🥭 🥭 * 4
+            pay 🔔 🔔 * 5
+            pay ⭐ ⭐ * 10
+            pay * 🍒 🍒 2
+            pay * 🍉 🍉 3
+            pay * 🥭 🥭 4
+            pay * 🔔 🔔 5
+            pay * ⭐ ⭐ 10
+            """;
+
+    // 🧾 What the config said
+    final String[] symbols;   // emoji for each symbol ordinal
+    final int reels;          // N
+    final int rows;           // M
+    final byte[][] strips;    // strips[reel][stop] = symbol ordinal
+    final int[][] paylines;   // paylines[line][reel] = row read on that reel
+    final int[][] patterns;   // patterns[rule][reel] = symbol ordinal, or WILDCARD
+    final int[] multipliers;  // multipliers[rule]
+
+    // ⚡ What we compiled it into
+    final int combinations;   // symbols ^ reels
+    final int[] payTable;     // payTable[code] = multiplier
+    final int[] ruleTable;    // ruleTable[code] = index of the winning pay rule, or -1
+    final int[][] weighted;   // weighted[reel][stop * rows + row] = symbol * S^reel
+    final int[] lineRows;     // paylines flattened: lineRows[line * reels + reel]
+
+    static final int WILDCARD = -1;
+
+    private SlotMachine(String[] symbols, int rows, byte[][] strips, int[][] paylines,
+                        int[][] patterns, int[] multipliers) {
+        this.symbols = symbols;
+        this.reels = strips.length;
+        this.rows = rows;
+        this.strips = strips;
+        this.paylines = paylines;
+        this.patterns = patterns;
+        this.multipliers = multipliers;
+
+        // 🔢 How many different symbol combinations can appear on one payline?
+        long count = 1;
+        for (int r = 0; r < reels; r++) {
+            count *= symbols.length;
+            if (count > MAX_COMBINATIONS) {
+                throw new IllegalArgumentException("Too many symbol combinations (max " + MAX_COMBINATIONS + ")");
+            }
+        }
+        this.combinations = (int) count;
+
+        // 🧮 Score every combination once
+        this.payTable = new int[combinations];
+        this.ruleTable = new int[combinations];
+        int[] line = new int[reels];
+        for (int code = 0; code < combinations; code++) {
+            decode(code, line);
+            ruleTable[code] = -1;
+            for (int rule = 0; rule < patterns.length; rule++) {
+                if (matches(patterns[rule], line)) {
+                    payTable[code] = multipliers[rule];
+                    ruleTable[code] = rule;
+                    break;
+                }
+            }
+        }
+
+        // 📐 Pre-multiply every visible symbol by its place value
+        this.weighted = new int[reels][];
+        int placeValue = 1;
+        for (int r = 0; r < reels; r++) {
+            byte[] strip = strips[r];
+            weighted[r] = new int[strip.length * rows];
+            for (int stop = 0; stop < strip.length; stop++) {
+                for (int row = 0; row < rows; row++) {
+                    weighted[r][stop * rows + row] = strip[(stop + row) % strip.length] * placeValue;
+                }
+            }
+            placeValue *= symbols.length;
+        }
+
+        this.lineRows = new int[paylines.length * reels];
+        for (int l = 0; l < paylines.length; l++) {
+            System.arraycopy(paylines[l], 0, lineRows, l * reels, reels);
+        }
+    }
+
+    /*
+    ╔════════════════════════════════════╗
+    ║            🎲 PLAYING               ║
+    ╚════════════════════════════════════╝
+    */
+
+    // 🎲 spin() – picks a stop position for every reel and writes it into `stops`
+    void spin(RandomGenerator random, int[] stops) {
+        for (int r = 0; r < reels; r++) {
+            stops[r] = random.nextInt(strips[r].length);
+        }
+    }
+
+    // 💰 evaluate() – total multiplier over all paylines for these stops
+    int evaluate(int[] stops) {
+        int total = 0;
+        for (int l = 0, base = 0; l < paylines.length; l++, base += reels) {
+            total += payTable[lineCode(stops, base)];
+        }
+        return total;
+    }
+
+    // 🔢 lineCode() – combination code of the payline whose rows start at lineRows[base]
+    int lineCode(int[] stops, int base) {
+        int code = 0;
+        for (int r = 0; r < reels; r++) {
+            code += weighted[r][stops[r] * rows + lineRows[base + r]];
+        }
+        return code;
+    }
+
+    // 🔍 symbolAt() – which symbol is showing on a reel/row for these stops
+    int symbolAt(int[] stops, int reel, int row) {
+        byte[] strip = strips[reel];
+        return strip[(stops[reel] + row) % strip.length];
+    }
+
+    // 🏆 maxPayout() – the biggest total multiplier a single spin could ever pay
+    int maxPayout() {
+        int best = 0;
+        for (int multiplier : multipliers) {
+            best = Math.max(best, multiplier);
+        }
+        return best * paylines.length;
+    }
+
+    // 🖨️ render() – the visible window as text, one line per row
+    String render(int[] stops) {
+        StringBuilder text = new StringBuilder();
+        for (int row = 0; row < rows; row++) {
+            text.append(' ');
+            for (int r = 0; r < reels; r++) {
+                if (r > 0) {
+                    text.append(" | ");
+                }
+                text.append(symbols[symbolAt(stops, r, row)]);
+            }
+            text.append('\n');
+        }
+        return text.toString();
+    }
+
+    /*
+    ╔════════════════════════════════════╗
+    ║        📥 LOADING A CONFIG          ║
+    ╚════════════════════════════════════╝
+    */
+
+    // 🎰 classic() – the machine the game has always used
+    static SlotMachine classic() {
+        return parse(CLASSIC);
+    }
+
+    // 📂 load() – reads and compiles a machine file
+    static SlotMachine load(Path file) throws IOException {
+        return parse(Files.readString(file, StandardCharsets.UTF_8));
+    }
+
+    // 🧩 parse() – turns config text into a compiled machine
+    static SlotMachine parse(String config) {
+        List<String> symbols = new ArrayList<>();
+        int rows = 1;
+        List<String[]> reelLines = new ArrayList<>();
+        List<String[]> lineLines = new ArrayList<>();
+        List<String[]> payLines = new ArrayList<>();
+
+        String[] lines = config.split("\\R");
+        for (int i = 0; i < lines.length; i++) {
+            String line = lines[i].strip();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] words = line.split("\\s+");
+            String[] values = Arrays.copyOfRange(words, 1, words.length);
+
+            switch (words[0]) {
+                case "symbols" -> symbols.addAll(Arrays.asList(values));
+                case "rows" -> rows = parseNumber(values, 0, i);
+                case "reel" -> reelLines.add(values);
+                case "line" -> lineLines.add(values);
+                case "pay" -> payLines.add(values);
+                default -> throw error(i, "unknown keyword '" + words[0] + "'");
+            }
+        }
+
+        if (symbols.isEmpty() || symbols.size() > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("Config needs between 1 and " + Byte.MAX_VALUE + " symbols");
+        }
+        if (reelLines.isEmpty()) {
+            throw new IllegalArgumentException("Config needs at least one 'reel' line");
+        }
+        if (rows < 1) {
+            throw new IllegalArgumentException("'rows' must be at least 1");
+        }
+        int reels = reelLines.size();
+
+        // 🎞️ Reel strips: "🍒:3" means three 🍒 stops in a row
+        byte[][] strips = new byte[reels][];
+        for (int r = 0; r < reels; r++) {
+            List<Byte> stops = new ArrayList<>();
+            for (String token : reelLines.get(r)) {
+                int colon = token.lastIndexOf(':');
+                String name = colon < 0 ? token : token.substring(0, colon);
+                int weight = colon < 0 ? 1 : Integer.parseInt(token.substring(colon + 1));
+                byte symbol = (byte) symbolIndex(symbols, name);
+                for (int w = 0; w < weight; w++) {
+                    stops.add(symbol);
+                }
+            }
+            if (stops.isEmpty()) {
+                throw new IllegalArgumentException("Reel " + (r + 1) + " has no stops");
+            }
+            strips[r] = new byte[stops.size()];
+            for (int s = 0; s < stops.size(); s++) {
+                strips[r][s] = stops.get(s);
+            }
+        }
+
+        // ➖ Paylines (default: one line across the top row)
+        if (lineLines.isEmpty()) {
+            lineLines.add(new String[reels]);
+            Arrays.fill(lineLines.get(0), "0");
+        }
+        int[][] paylines = new int[lineLines.size()][reels];
+        for (int l = 0; l < paylines.length; l++) {
+            String[] values = lineLines.get(l);
+            if (values.length != reels) {
+                throw new IllegalArgumentException("Payline " + (l + 1) + " needs one row per reel (" + reels + ")");
+            }
+            for (int r = 0; r < reels; r++) {
+                paylines[l][r] = Integer.parseInt(values[r]);
+                if (paylines[l][r] < 0 || paylines[l][r] >= rows) {
+                    throw new IllegalArgumentException("Payline " + (l + 1) + " uses a row that doesn't exist");
+                }
+            }
+        }
+
+        // 🏆 Pay patterns: one symbol (or *) per reel, then the multiplier
+        int[][] patterns = new int[payLines.size()][reels];
+        int[] multipliers = new int[payLines.size()];
+        for (int p = 0; p < patterns.length; p++) {
+            String[] values = payLines.get(p);
+            if (values.length != reels + 1) {
+                throw new IllegalArgumentException("Pay rule " + (p + 1) + " needs " + reels + " symbols and a multiplier");
+            }
+            for (int r = 0; r < reels; r++) {
+                patterns[p][r] = values[r].equals("*") ? WILDCARD : symbolIndex(symbols, values[r]);
+            }
+            multipliers[p] = Integer.parseInt(values[reels]);
+            if (multipliers[p] < 0) {
+                throw new IllegalArgumentException("Pay rule " + (p + 1) + " has a negative multiplier");
+            }
+        }
+
+        return new SlotMachine(symbols.toArray(new String[0]), rows, strips, paylines, patterns, multipliers);
+    }
+
+    /*
+    ╔════════════════════════════════════╗
+    ║            🧰 HELPERS               ║
+    ╚════════════════════════════════════╝
+    */
+
+    // 🔓 decode() – code → one symbol per reel
+    void decode(int code, int[] line) {
+        for (int r = 0; r < reels; r++) {
+            line[r] = code % symbols.length;
+            code /= symbols.length;
+        }
+    }
+
+    private static boolean matches(int[] pattern, int[] line) {
+        for (int r = 0; r < line.length; r++) {
+            if (pattern[r] != WILDCARD && pattern[r] != line[r]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int symbolIndex(List<String> symbols, String name) {
+        int index = symbols.indexOf(name);
+        if (index < 0) {
+            throw new IllegalArgumentException("Unknown symbol '" + name + "' (declare it on the 'symbols' line)");
+        }
+        return index;
+    }
+
+    private static int parseNumber(String[] values, int index, int lineNumber) {
+        if (values.length <= index) {
+            throw error(lineNumber, "missing number");
+        }
+        return Integer.parseInt(values[index]);
+    }
+
+    private static IllegalArgumentException error(int lineNumber, String message) {
+        return new IllegalArgumentException("Line " + (lineNumber + 1) + ": " + message);
+    }
+}
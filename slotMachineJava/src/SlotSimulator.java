@@ -0,0 +1,112 @@
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/*
+╔════════════════════════════════════════════════════════════╗
+║        📊 SLOT SIMULATOR — MONTE CARLO RETURN-TO-PLAYER      ║
+╚════════════════════════════════════════════════════════════╝
+
+➤ RTP (Return To Player) = how much of every $1 bet comes back on average.
+    RTP 0.95 → the machine pays back 95 cents per dollar in the long run.
+
+➤ We find it by spinning the machine MANY times (no keyboard, no printing)
+  and counting how often each payout happens.
+
+📌 Using every CPU core:
+    - The spins are cut into a fixed number of CHUNKS.
+    - Each chunk gets its own SplittableRandom, split off one root
+      generator made from the seed.
+    - Chunks run in parallel (fork-join via a parallel stream) and their
+      histograms are added together at the end.
+
+📌 Deterministic:
+    The chunks and their random generators depend only on the seed and the
+    number of spins — NOT on how many cores you have or which thread ran
+    which chunk — so the same seed always prints the same report.
+
+📌 Confidence interval:
+    With n spins, mean μ and standard deviation σ, the 95% interval for
+    the true RTP is μ ± 1.96 × σ / √n.
+*/
+public class SlotSimulator {
+
+    static final int CHUNKS = 1024;
+
+    // 🚀 run() – simulate `spins` spins with a $1 bet and print the report
+    static void run(SlotMachine machine, long spins, long seed) {
+        long start = System.nanoTime();
+        long[] histogram = simulate(machine, spins, seed);
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        printReport(histogram, spins, seed, seconds);
+    }
+
+    // 🎰 simulate() – returns histogram[m] = number of spins that paid m × bet
+    static long[] simulate(SlotMachine machine, long spins, long seed) {
+
+        // 🌱 One generator per chunk, always split in the same order
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] generators = new SplittableRandom[CHUNKS];
+        for (int i = 0; i < CHUNKS; i++) {
+            generators[i] = root.split();
+        }
+
+        // 🧺 collect() gives each fork-join task its own histogram to fill
+        return IntStream.range(0, CHUNKS)
+                .parallel()
+                .collect(() -> new long[machine.maxPayout() + 1],
+                        (histogram, chunk) -> {
+                            long chunkSpins = spins / CHUNKS + (chunk < spins % CHUNKS ? 1 : 0);
+                            simulateChunk(machine, chunkSpins, generators[chunk], histogram);
+                        },
+                        SlotSimulator::add);
+    }
+
+    // 🔁 simulateChunk() – the same spin()/evaluate() rules the game uses
+    static void simulateChunk(SlotMachine machine, long spins, SplittableRandom random, long[] histogram) {
+        int[] stops = new int[machine.reels];
+        for (long i = 0; i < spins; i++) {
+            machine.spin(random, stops);
+            histogram[machine.evaluate(stops)]++;
+        }
+    }
+
+    // ➕ add() – adds histogram b into histogram a
+    static void add(long[] a, long[] b) {
+        for (int i = 0; i < a.length; i++) {
+            a[i] += b[i];
+        }
+    }
+
+    // 🖨️ printReport() – RTP, volatility, confidence interval and the payout histogram
+    static void printReport(long[] histogram, long spins, long seed, double seconds) {
+        double sum = 0;
+        double sumOfSquares = 0;
+        for (int m = 0; m < histogram.length; m++) {
+            sum += (double) m * histogram[m];
+            sumOfSquares += (double) m * m * histogram[m];
+        }
+
+        double rtp = sum / spins;
+        double variance = sumOfSquares / spins - rtp * rtp;
+        double volatility = Math.sqrt(variance);
+        double margin = 1.96 * volatility / Math.sqrt(spins);
+        double hitFrequency = 1 - (double) histogram[0] / spins;
+
+        System.out.println("==========================");
+        System.out.println("   📊 SLOT SIMULATION");
+        System.out.println("==========================");
+        System.out.printf("🎰 Spins: %,d   🌱 Seed: %d%n", spins, seed);
+        System.out.printf("⏱️ %.2fs → %,.0f spins/sec%n", seconds, spins / seconds);
+        System.out.printf("💰 RTP: %.6f  (95%% CI %.6f – %.6f)%n", rtp, rtp - margin, rtp + margin);
+        System.out.printf("📈 Volatility (std dev per $1 bet): %.4f%n", volatility);
+        System.out.printf("🎯 Hit frequency: %.4f%%%n", hitFrequency * 100);
+        System.out.println("--------------------------");
+        System.out.println(" Payout |        Spins | Probability");
+        for (int m = 0; m < histogram.length; m++) {
+            if (histogram[m] > 0) {
+                System.out.printf("  %3dx  | %,12d | %.6f%n", m, histogram[m], (double) histogram[m] / spins);
+            }
+        }
+        System.out.println("==========================");
+    }
+}